@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.export_runner.app.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Local rebuild of the network with preventive remedial actions, from the network sent to the RAO and its result,
+ * instead of downloading the one uploaded by the RAO. In verification mode, the rebuilt network is checked against
+ * the uploaded one, which is used instead when they differ.
+ */
+@ConfigurationProperties(prefix = "cse-cc-runner.local-pra-application")
+public record LocalPraApplicationConfiguration(boolean enabled,
+                                               boolean verify) {
+}
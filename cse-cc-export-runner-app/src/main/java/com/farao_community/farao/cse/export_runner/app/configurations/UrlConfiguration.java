@@ -15,10 +15,8 @@ import java.util.List;
  * @author Amira Kahya {@literal <amira.kahya at rte-france.com>}
  */
 @ConfigurationProperties("cse-cc-runner")
-public record UrlConfiguration(List<String> whitelist,
-                               String interruptServerUrl) {
-    public UrlConfiguration(List<String> whitelist, String interruptServerUrl) {
+public record UrlConfiguration(List<String> whitelist) {
+    public UrlConfiguration(List<String> whitelist) {
         this.whitelist = whitelist == null ? new ArrayList<>() : whitelist;
-        this.interruptServerUrl = interruptServerUrl;
     }
 }
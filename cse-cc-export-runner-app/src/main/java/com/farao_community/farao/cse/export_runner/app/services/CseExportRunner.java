@@ -6,13 +6,15 @@
  */
 package com.farao_community.farao.cse.export_runner.app.services;
 
+import com.farao_community.farao.cse.data.CancellationToken;
 import com.farao_community.farao.cse.export_runner.app.FileUtil;
+import com.farao_community.farao.cse.export_runner.app.configurations.LocalPraApplicationConfiguration;
 import com.farao_community.farao.cse.export_runner.app.configurations.PiSaConfiguration;
 import com.farao_community.farao.cse.export_runner.app.configurations.ProcessConfiguration;
-import com.farao_community.farao.cse.export_runner.app.configurations.UrlConfiguration;
 import com.farao_community.farao.cse.network_processing.CracCreationParametersService;
 import com.farao_community.farao.cse.network_processing.busbar_change.BusBarChangePostProcessor;
 import com.farao_community.farao.cse.network_processing.busbar_change.BusBarChangePreProcessor;
+import com.farao_community.farao.cse.network_processing.pra_application.PraApplier;
 import com.farao_community.farao.cse.network_processing.ucte_pst_change.PstInitializer;
 import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
 import com.farao_community.farao.cse.runner.api.resource.CseExportRequest;
@@ -34,9 +36,6 @@ import com.powsybl.openrao.data.crac.io.cse.xsd.CRACDocumentType;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -45,6 +44,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -67,9 +67,9 @@ public class CseExportRunner {
     private final Logger businessLogger;
     private final ProcessConfiguration processConfiguration;
     private final MerchantLineService merchantLineService;
-    private final RestTemplateBuilder restTemplateBuilder;
-    private final UrlConfiguration urlConfiguration;
+    private final InterruptionService interruptionService;
     private final PiSaConfiguration piSaConfiguration;
+    private final LocalPraApplicationConfiguration localPraApplicationConfiguration;
 
     public CseExportRunner(final FileImporter fileImporter,
                            final FileExporter fileExporter,
@@ -79,9 +79,9 @@ public class CseExportRunner {
                            final Logger businessLogger,
                            final ProcessConfiguration processConfiguration,
                            final MerchantLineService merchantLineService,
-                           final RestTemplateBuilder restTemplateBuilder,
-                           final UrlConfiguration urlConfiguration,
-                           final PiSaConfiguration piSaConfiguration) {
+                           final InterruptionService interruptionService,
+                           final PiSaConfiguration piSaConfiguration,
+                           final LocalPraApplicationConfiguration localPraApplicationConfiguration) {
         this.fileImporter = fileImporter;
         this.fileExporter = fileExporter;
         this.pisaService = pisaService;
@@ -90,13 +90,22 @@ public class CseExportRunner {
         this.businessLogger = businessLogger;
         this.processConfiguration = processConfiguration;
         this.merchantLineService = merchantLineService;
-        this.restTemplateBuilder = restTemplateBuilder;
-        this.urlConfiguration = urlConfiguration;
+        this.interruptionService = interruptionService;
         this.piSaConfiguration = piSaConfiguration;
+        this.localPraApplicationConfiguration = localPraApplicationConfiguration;
     }
 
     public CseExportResponse run(CseExportRequest cseExportRequest) throws IOException {
-        if (checkIsInterrupted(cseExportRequest)) {
+        final CancellationToken cancellationToken = interruptionService.registerRun(cseExportRequest.getCurrentRunId());
+        try {
+            return run(cseExportRequest, cancellationToken);
+        } finally {
+            interruptionService.unregisterRun(cseExportRequest.getCurrentRunId());
+        }
+    }
+
+    private CseExportResponse run(CseExportRequest cseExportRequest, CancellationToken cancellationToken) throws IOException {
+        if (cancellationToken.isCancelled()) {
             businessLogger.warn("Computation has been interrupted for timestamp {}", cseExportRequest.getTargetProcessDateTime());
             LOGGER.info("Response sent for timestamp {} : run has been interrupted", cseExportRequest.getTargetProcessDateTime());
             return new CseExportResponse(cseExportRequest.getId(), "", "", true);
@@ -129,16 +138,17 @@ public class CseExportRunner {
                 cseExportRequest.getTargetProcessDateTime());
         String artefactDestinationPath = fileExporter.getDestinationPath(cseExportRequest.getTargetProcessDateTime(), cseExportRequest.getProcessType(), GridcapaFileGroup.ARTIFACT);
         try {
-            RaoSuccessResponse raoResponse = raoRunnerService.run(cseExportRequest.getId(), cseExportRequest.getCurrentRunId(), initialNetworkUrl, cracInJsonFormatUrl, raoParametersUrl, artefactDestinationPath);
+            RaoSuccessResponse raoResponse = raoRunnerService.run(cseExportRequest.getId(), cseExportRequest.getCurrentRunId(), initialNetworkUrl, cracInJsonFormatUrl, raoParametersUrl, artefactDestinationPath, cancellationToken);
 
-            Network networkWithPra = fileImporter.importNetwork(raoResponse.getNetworkWithPraFileUrl());
+            // The network with PRAs is only parsed once: TTC RAO result only reads it, so it is computed first,
+            // before the topology of the network is modified for the output network
+            RaoResult raoResult = fileImporter.importRaoResult(raoResponse.getRaoResultFileUrl(), cseCracCreationContext.getCrac());
+            Network networkWithPra = getNetworkWithPra(network, cseCracCreationContext.getCrac(), raoResult, raoResponse.getNetworkWithPraFileUrl());
+            String ttcResultUrl = ttcRaoService.saveTtcRao(cseExportRequest, cseCracCreationContext, raoResult, networkWithPra, preprocessedPsts);
             BusBarChangePostProcessor.process(networkWithPra, busBarChangeSwitchesSet);
             runLoadFlow(networkWithPra);
             // Save again on MinIO to proper process location and naming
             String networkWithPraUrl = saveNetworkWithPra(cseExportRequest, networkWithPra);
-            RaoResult raoResult = fileImporter.importRaoResult(raoResponse.getRaoResultFileUrl(), cseCracCreationContext.getCrac());
-            Network networkForTtc = fileImporter.importNetwork(raoResponse.getNetworkWithPraFileUrl());
-            String ttcResultUrl = ttcRaoService.saveTtcRao(cseExportRequest, cseCracCreationContext, raoResult, networkForTtc, preprocessedPsts);
             return new CseExportResponse(cseExportRequest.getId(), ttcResultUrl, networkWithPraUrl, false);
         } catch (RaoInterruptionException e) {
             BUSINESS_WARNS.warn("RAO interrupted");
@@ -149,6 +159,27 @@ public class CseExportRunner {
         }
     }
 
+    /**
+     * The network with PRAs is rebuilt locally from the network sent to the RAO when enabled, instead of importing the
+     * one uploaded by the RAO. In verification mode, the uploaded one is imported anyway and used if they differ.
+     */
+    private Network getNetworkWithPra(Network network, Crac crac, RaoResult raoResult, String networkWithPraUrl) {
+        if (!localPraApplicationConfiguration.enabled()) {
+            return fileImporter.importNetwork(networkWithPraUrl);
+        }
+        PraApplier.applyPreventiveRemedialActions(network, crac, raoResult);
+        if (localPraApplicationConfiguration.verify()) {
+            Network raoNetworkWithPra = fileImporter.importNetwork(networkWithPraUrl);
+            List<String> differences = PraApplier.findDifferences(raoNetworkWithPra, network);
+            if (!differences.isEmpty()) {
+                LOGGER.warn("Network with PRAs rebuilt locally differs from the one of the RAO, which is used instead: {}", differences);
+                return raoNetworkWithPra;
+            }
+            LOGGER.info("Network with PRAs rebuilt locally is consistent with the one of the RAO");
+        }
+        return network;
+    }
+
     private String saveInitialNetwork(CseExportRequest cseExportRequest, Network initialNetwork) {
         return fileExporter.saveNetwork(initialNetwork, "XIIDM", GridcapaFileGroup.ARTIFACT,
             cseExportRequest.getProcessType(), NETWORK_PRE_PROCESSED_FILE_NAME, cseExportRequest.getTargetProcessDateTime());
@@ -173,13 +204,4 @@ public class CseExportRunner {
             throw new CseInternalException(String.format("Loadflow computation diverged on network %s", network.getId()));
         }
     }
-
-    private boolean checkIsInterrupted(CseExportRequest cseExportRequest) {
-        ResponseEntity<Boolean> responseEntity = restTemplateBuilder.build().getForEntity(getInterruptedUrl(cseExportRequest.getCurrentRunId()), Boolean.class);
-        return responseEntity.getBody() != null && responseEntity.getStatusCode() == HttpStatus.OK && responseEntity.getBody();
-    }
-
-    private String getInterruptedUrl(String runId) {
-        return urlConfiguration.interruptServerUrl() + runId;
-    }
 }
@@ -6,9 +6,11 @@
  */
 package com.farao_community.farao.cse.export_runner.app.services;
 
+import com.farao_community.farao.cse.data.JaxbContextRegistry;
 import com.farao_community.farao.cse.data.xsd.ttc_rao.CseRaoResult;
 import com.farao_community.farao.cse.export_runner.app.FileUtil;
 import com.farao_community.farao.cse.export_runner.app.configurations.ProcessConfiguration;
+import com.farao_community.farao.cse.network_processing.NetworkStreamExporter;
 import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
 import com.farao_community.farao.cse.runner.api.resource.ProcessType;
 
@@ -23,17 +25,14 @@ import com.powsybl.openrao.raoapi.parameters.RaoParameters;
 import org.apache.commons.lang3.NotImplementedException;
 import org.springframework.stereotype.Service;
 
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBElement;
 import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Marshaller;
 import javax.xml.namespace.QName;
 import java.io.*;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Properties;
 
 /**
  * @author Amira Kahya {@literal <amira.kahya at rte-france.com>}
@@ -117,23 +116,16 @@ public class FileExporter {
     }
 
     String saveTtcRao(CseRaoResult cseRaoResult, ProcessType processType, OffsetDateTime processTargetDate, String initialCgmFilename) {
-        StringWriter stringWriter = new StringWriter();
+        InputStream is;
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(CseRaoResult.class);
-            Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
-
-            // format the XML output
-            jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-
             QName qName = new QName("CseRaoResult");
             JAXBElement<CseRaoResult> root = new JAXBElement<>(qName, CseRaoResult.class, cseRaoResult);
 
-            jaxbMarshaller.marshal(root, stringWriter);
+            is = JaxbContextRegistry.marshalToInputStream(root, true);
 
         } catch (JAXBException e) {
             throw new CseInternalException("XSD matching error", e);
         }
-        ByteArrayInputStream is = new ByteArrayInputStream(stringWriter.toString().getBytes());
         String ttcPath =  getDestinationPath(processTargetDate, processType, GridcapaFileGroup.OUTPUT) + getTtcRaoResultOutputFilename(processTargetDate, initialCgmFilename, processType);
         minioAdapter.uploadOutputForTimestamp(ttcPath, is, adaptTargetProcessName(processType), processConfiguration.getTtcRao(), processTargetDate);
         return minioAdapter.generatePreSignedUrl(ttcPath);
@@ -146,14 +138,9 @@ public class FileExporter {
     }
 
     InputStream getNetworkInputStream(Network network, String format) throws IOException {
-        MemDataSource memDataSource = new MemDataSource();
         switch (format) {
-            case UCTE_FORMAT:
-                network.write(UCTE_FORMAT, new Properties(), memDataSource);
-                return memDataSource.newInputStream("", UCTE_EXTENSION);
-            case XIIDM_FORMAT:
-                network.write(XIIDM_FORMAT, new Properties(), memDataSource);
-                return memDataSource.newInputStream("", XIIDM_EXTENSION);
+            case UCTE_FORMAT, XIIDM_FORMAT:
+                return NetworkStreamExporter.export(network, format);
             default:
                 throw new UnsupportedOperationException(String.format("Network format %s not supported.", format));
         }
@@ -7,6 +7,7 @@
 package com.farao_community.farao.cse.export_runner.app.services;
 
 import com.farao_community.farao.cse.data.CseDataException;
+import com.farao_community.farao.cse.data.JaxbContextRegistry;
 import com.farao_community.farao.cse.export_runner.app.FileUtil;
 import com.farao_community.farao.cse.export_runner.app.configurations.UrlConfiguration;
 import com.farao_community.farao.cse.runner.api.exception.CseInvalidDataException;
@@ -15,12 +16,10 @@ import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.io.cse.xsd.CRACDocumentType;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.powsybl.openrao.data.raoresult.io.json.RaoResultJsonImporter;
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Service;
 
-import javax.xml.transform.stream.StreamSource;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -51,10 +50,7 @@ public class FileImporter {
 
     CRACDocumentType importNativeCrac(InputStream inputStream) {
         try {
-            return JAXBContext.newInstance(CRACDocumentType.class)
-                    .createUnmarshaller()
-                    .unmarshal(new StreamSource(inputStream), CRACDocumentType.class)
-                    .getValue();
+            return JaxbContextRegistry.unmarshal(inputStream, CRACDocumentType.class);
         } catch (JAXBException e) {
             throw new CseDataException("Exception occurred during import of native crac", e);
         }
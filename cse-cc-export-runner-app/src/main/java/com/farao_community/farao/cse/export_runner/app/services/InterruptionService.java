@@ -6,30 +6,43 @@
  */
 package com.farao_community.farao.cse.export_runner.app.services;
 
+import com.farao_community.farao.cse.data.CancellationToken;
 import com.farao_community.farao.dichotomy.api.InterruptionStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Service;
 
-import java.util.HashSet;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 
 /**
+ * Hard interruptions cancel the {@link CancellationToken} of the run as soon as they are received. They are kept
+ * per run until they are older than {@link #RUN_INTERRUPTION_TIME_TO_LIVE}, for runs whose request has not been
+ * received yet.
+ *
  * @author Amira Kahya {@literal <amira.kahya at rte-france.com>}
  * @author Daniel Thirion {@literal <daniel.thirion at rte-france.com>}
  */
 @Service
 public class InterruptionService implements InterruptionStrategy  {
     private static final Logger LOGGER = LoggerFactory.getLogger(InterruptionService.class);
+    static final Duration RUN_INTERRUPTION_TIME_TO_LIVE = Duration.ofDays(1);
 
     private final Logger businessLogger;
     private final Set<String> runsToInterruptSoftly;
+    private final ConcurrentMap<String, Instant> hardInterruptionsByRunId;
+    private final ConcurrentMap<String, CancellationToken> cancellationTokensByRunId;
 
     public InterruptionService(final Logger businessLogger) {
         this.businessLogger = businessLogger;
-        this.runsToInterruptSoftly = new HashSet<>();
+        this.runsToInterruptSoftly = ConcurrentHashMap.newKeySet();
+        this.hardInterruptionsByRunId = new ConcurrentHashMap<>();
+        this.cancellationTokensByRunId = new ConcurrentHashMap<>();
     }
 
     @Bean
@@ -42,6 +55,40 @@ public class InterruptionService implements InterruptionStrategy  {
         runsToInterruptSoftly.add(runId);
     }
 
+    @Bean
+    public Consumer<String> hardInterrupt() {
+        return this::activateHardInterruption;
+    }
+
+    private void activateHardInterruption(final String runId) {
+        LOGGER.info("Hard interruption requested for Run {}", runId);
+        final Instant now = Instant.now();
+        hardInterruptionsByRunId.values().removeIf(requestedAt -> requestedAt.isBefore(now.minus(RUN_INTERRUPTION_TIME_TO_LIVE)));
+        hardInterruptionsByRunId.putIfAbsent(runId, now);
+        final CancellationToken cancellationToken = cancellationTokensByRunId.get(runId);
+        if (cancellationToken != null) {
+            businessLogger.warn("Hard interruption requested");
+            cancellationToken.cancel();
+        }
+    }
+
+    /**
+     * Registers a run processed by this runner, and returns its cancellation token. The token is already cancelled
+     * if the hard interruption of the run has been received before it started.
+     */
+    public CancellationToken registerRun(final String runId) {
+        final CancellationToken cancellationToken = new CancellationToken();
+        cancellationTokensByRunId.put(runId, cancellationToken);
+        if (hardInterruptionsByRunId.containsKey(runId)) {
+            cancellationToken.cancel();
+        }
+        return cancellationToken;
+    }
+
+    public void unregisterRun(final String runId) {
+        cancellationTokensByRunId.remove(runId);
+    }
+
     @Override
     public boolean shouldRunBeInterruptedSoftly(final String runId) {
         final boolean runShouldBeInterrupted = runsToInterruptSoftly.remove(runId);
@@ -6,6 +6,7 @@
  */
 package com.farao_community.farao.cse.export_runner.app.services;
 
+import com.farao_community.farao.cse.data.CancellationToken;
 import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
 import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
 import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
@@ -16,28 +17,51 @@ import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
 import com.farao_community.farao.rao_runner.starter.RaoRunnerClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 /**
  * @author Amira Kahya {@literal <amira.kahya at rte-france.com>}
  */
 @Service
 public class RaoRunnerService {
     private static final Logger LOGGER = LoggerFactory.getLogger(RaoRunnerService.class);
+    // RAO requests only wait for the RAO runner response
+    private static final ExecutorService RAO_REQUEST_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
 
     private final Logger businessLogger;
     private final RaoRunnerClient raoRunnerClient;
+    private final RaoRunnerStopService raoRunnerStopService;
 
-    public RaoRunnerService(RaoRunnerClient raoRunnerClient, Logger businessLogger) {
+    public RaoRunnerService(RaoRunnerClient raoRunnerClient, RaoRunnerStopService raoRunnerStopService, Logger businessLogger) {
         this.raoRunnerClient = raoRunnerClient;
+        this.raoRunnerStopService = raoRunnerStopService;
         this.businessLogger = businessLogger;
     }
 
     public RaoSuccessResponse run(String id, String runId, String networkPresignedUrl, String cracInJsonFormatUrl, String raoParametersUrl, String artifactDestinationPath) throws CseInternalException, RaoInterruptionException, RaoFailureException {
+        return run(id, runId, networkPresignedUrl, cracInJsonFormatUrl, raoParametersUrl, artifactDestinationPath, new CancellationToken());
+    }
+
+    /**
+     * Runs the RAO, unless the run is cancelled: the RAO runner is then asked to stop the RAO, whose response is no
+     * longer awaited, and the RAO is considered as interrupted.
+     */
+    public RaoSuccessResponse run(String id, String runId, String networkPresignedUrl, String cracInJsonFormatUrl, String raoParametersUrl, String artifactDestinationPath, CancellationToken cancellationToken) throws CseInternalException, RaoInterruptionException, RaoFailureException {
+        if (cancellationToken.isCancelled()) {
+            throw new RaoInterruptionException("Run has been interrupted");
+        }
         RaoRequest raoRequest = buildRaoRequest(id, runId, networkPresignedUrl, cracInJsonFormatUrl, raoParametersUrl, artifactDestinationPath);
         try {
             LOGGER.info("RAO request sent: {}", raoRequest);
-            AbstractRaoResponse abstractRaoResponse = raoRunnerClient.runRao(raoRequest);
+            AbstractRaoResponse abstractRaoResponse = runRao(raoRequest, cancellationToken);
             LOGGER.info("RAO response received: {}", abstractRaoResponse);
             if (abstractRaoResponse.isRaoFailed()) {
                 RaoFailureResponse failureResponse = (RaoFailureResponse) abstractRaoResponse;
@@ -56,6 +80,36 @@ public class RaoRunnerService {
         }
     }
 
+    private AbstractRaoResponse runRao(RaoRequest raoRequest, CancellationToken cancellationToken) throws RaoInterruptionException {
+        final Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        final Future<AbstractRaoResponse> raoResponseFuture = RAO_REQUEST_EXECUTOR.submit(() -> {
+            if (contextMap != null) {
+                MDC.setContextMap(contextMap);
+            }
+            return raoRunnerClient.runRao(raoRequest);
+        });
+        try (CancellationToken.Registration ignored = cancellationToken.onCancel(() -> stopRao(raoRequest, raoResponseFuture))) {
+            return raoResponseFuture.get();
+        } catch (CancellationException e) {
+            LOGGER.info("RAO response no longer awaited: run has been interrupted");
+            throw new RaoInterruptionException("Run has been interrupted");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            raoResponseFuture.cancel(true);
+            throw new CseInternalException("Interrupted while waiting for RAO response", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CseInternalException("RAO request failed", e.getCause());
+        }
+    }
+
+    private void stopRao(RaoRequest raoRequest, Future<AbstractRaoResponse> raoResponseFuture) {
+        raoResponseFuture.cancel(true);
+        raoRunnerStopService.stopRao(raoRequest.getRunId());
+    }
+
     private RaoRequest buildRaoRequest(String id, String runId, String networkPresignedUrl, String cracUrl, String raoParametersUrl, String artifactDestinationPath) {
         return new RaoRequest.RaoRequestBuilder()
                 .withId(id)
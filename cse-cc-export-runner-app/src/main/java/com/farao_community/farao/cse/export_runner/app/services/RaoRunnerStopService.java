@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.export_runner.app.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.stereotype.Service;
+
+/**
+ * Asks the RAO runner to stop the RAOs of a run ID, when their results are no longer needed by this runner.
+ */
+@Service
+public class RaoRunnerStopService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RaoRunnerStopService.class);
+    private static final String STOP_RAO = "stop-rao";
+
+    private final StreamBridge streamBridge;
+
+    public RaoRunnerStopService(StreamBridge streamBridge) {
+        this.streamBridge = streamBridge;
+    }
+
+    public void stopRao(String raoRunId) {
+        LOGGER.info("Sending stop request to RAO runner for run {}", raoRunId);
+        streamBridge.send(STOP_RAO, raoRunId);
+    }
+}
@@ -13,21 +13,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
 import java.time.OffsetDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 /**
  * @author Amira Kahya {@literal <amira.kahya at rte-france.com>}
@@ -38,8 +31,8 @@ class CseExportRunnerTest {
     @Autowired
     private CseExportRunner cseExportRunner;
 
-    @MockitoBean
-    private RestTemplateBuilder restTemplateBuilder;
+    @Autowired
+    private InterruptionService interruptionService;
 
     @MockitoBean
     private TtcRaoService ttcRaoService;
@@ -55,6 +48,7 @@ class CseExportRunnerTest {
     }
 
     @Test
+    @DirtiesContext
     void runInterruptPendingCase() throws IOException {
         CseExportRequest request = Mockito.mock(CseExportRequest.class);
         Mockito.when(request.getId()).thenReturn("ID");
@@ -63,12 +57,7 @@ class CseExportRunnerTest {
         Mockito.when(request.getTargetProcessDateTime()).thenReturn(OffsetDateTime.now());
         Mockito.when(request.getCgmUrl()).thenReturn("testCgmUrl");
 
-        RestTemplate restTemplate = mock(RestTemplate.class);
-        ResponseEntity<Boolean> responseEntity = mock(ResponseEntity.class);
-        when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        when(restTemplate.getForEntity(anyString(), eq(Boolean.class))).thenReturn(responseEntity);
-        when(responseEntity.getStatusCode()).thenReturn(HttpStatus.OK);
-        when(responseEntity.getBody()).thenReturn(true);
+        interruptionService.hardInterrupt().accept("RUNID");
 
         CseExportResponse cseExportResponse = cseExportRunner.run(request);
         assertTrue(cseExportResponse.isInterrupted());
@@ -6,6 +6,7 @@
  */
 package com.farao_community.farao.cse.export_runner.app.services;
 
+import com.farao_community.farao.cse.data.CancellationToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -48,4 +49,23 @@ class InterruptionServiceTest {
     void shouldNotInterruptRunThatWasNotMarked() {
         assertFalse(interruptionService.shouldRunBeInterruptedSoftly(TASK_ID));
     }
+
+    @Test
+    void shouldCancelRegisteredRunOnHardInterruption() {
+        CancellationToken cancellationToken = interruptionService.registerRun(TASK_ID);
+        assertFalse(cancellationToken.isCancelled());
+
+        interruptionService.hardInterrupt().accept(TASK_ID);
+
+        assertTrue(cancellationToken.isCancelled());
+        verify(businessLogger).warn("Hard interruption requested");
+    }
+
+    @Test
+    void shouldCancelRunHardInterruptedBeforeItStarted() {
+        interruptionService.hardInterrupt().accept(TASK_ID);
+
+        assertTrue(interruptionService.registerRun(TASK_ID).isCancelled());
+        assertFalse(interruptionService.registerRun("otherTaskId").isCancelled());
+    }
 }
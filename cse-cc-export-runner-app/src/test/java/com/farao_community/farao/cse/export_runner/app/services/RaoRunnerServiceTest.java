@@ -6,6 +6,7 @@
  */
 package com.farao_community.farao.cse.export_runner.app.services;
 
+import com.farao_community.farao.cse.data.CancellationToken;
 import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
 import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
 import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
@@ -23,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -34,6 +36,8 @@ class RaoRunnerServiceTest {
     @Mock
     private RaoRunnerClient raoRunnerClient;
     @Mock
+    private RaoRunnerStopService raoRunnerStopService;
+    @Mock
     private Logger businessLogger;
 
     @InjectMocks
@@ -91,6 +95,21 @@ class RaoRunnerServiceTest {
         assertTrue(actualMessage.contains(expectedMessage));
     }
 
+    @Test
+    void testCancelledRunStopsRao() {
+        CancellationToken cancellationToken = new CancellationToken();
+        when(raoRunnerClient.runRao(any(RaoRequest.class))).thenAnswer(invocation -> {
+            cancellationToken.cancel();
+            Thread.sleep(10000);
+            return new RaoSuccessResponse.Builder().withId("id").build();
+        });
+
+        assertThrows(RaoInterruptionException.class, () ->
+            raoRunnerService.run(id, runId, networkPresignedUrl, cracInJsonFormatUrl, raoParametersUrl, artifactDestinationPath, cancellationToken));
+
+        verify(raoRunnerStopService).stopRao(runId);
+    }
+
     @Test
     void testRaoRequestValues() {
         RaoRequest raoRequest = new RaoRequest.RaoRequestBuilder()
@@ -6,8 +6,14 @@
  */
 package com.farao_community.farao.cse.import_runner.app;
 
+import com.farao_community.farao.cse.import_runner.app.configurations.ArtifactUploadConfiguration;
+import com.farao_community.farao.cse.import_runner.app.configurations.IndexHintConfiguration;
+import com.farao_community.farao.cse.import_runner.app.configurations.InputCacheConfiguration;
+import com.farao_community.farao.cse.import_runner.app.configurations.LocalPraApplicationConfiguration;
 import com.farao_community.farao.cse.import_runner.app.configurations.MendrisioConfiguration;
+import com.farao_community.farao.cse.import_runner.app.configurations.ParsedInputCacheConfiguration;
 import com.farao_community.farao.cse.import_runner.app.configurations.PiSaConfiguration;
+import com.farao_community.farao.cse.import_runner.app.configurations.TtcEstimationConfiguration;
 import com.farao_community.farao.cse.import_runner.app.configurations.UrlConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -18,7 +24,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
  */
 @SuppressWarnings("HideUtilityClassConstructor")
 @SpringBootApplication
-@EnableConfigurationProperties({PiSaConfiguration.class, MendrisioConfiguration.class, UrlConfiguration.class})
+@EnableConfigurationProperties({PiSaConfiguration.class, MendrisioConfiguration.class, UrlConfiguration.class, InputCacheConfiguration.class, ParsedInputCacheConfiguration.class, ArtifactUploadConfiguration.class, IndexHintConfiguration.class, TtcEstimationConfiguration.class, LocalPraApplicationConfiguration.class})
 public class CseApplication {
     public static void main(String[] args) {
         SpringApplication.run(CseApplication.class, args);
@@ -13,19 +13,25 @@ import com.farao_community.farao.cse.data.ntc.Ntc;
 import com.farao_community.farao.cse.data.ntc2.Ntc2;
 import com.farao_community.farao.cse.data.target_ch.LineFixedFlows;
 import com.farao_community.farao.cse.import_runner.app.services.FileImporter;
+import com.farao_community.farao.cse.import_runner.app.services.NetworkCache;
 import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
 import com.farao_community.farao.cse.runner.api.resource.CseRequest;
 import com.farao_community.farao.cse.runner.api.resource.ProcessType;
 import com.powsybl.iidm.network.Country;
+import com.powsybl.openrao.data.crac.api.Crac;
 
 import java.util.Map;
 
 /**
+ * Inputs of a request, imported on first use. The same instance is read by the dichotomies of forced PRAs
+ * combinations run in parallel, lazily imported inputs are therefore imported under the lock of the instance.
+ *
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
  */
 public class CseData {
     private final CseRequest cseRequest;
     private final FileImporter fileImporter;
+    private final NetworkCache networkCache;
 
     private Ntc ntc;
     private Map<String, Double> reducedSplittingFactors;
@@ -34,22 +40,25 @@ public class CseData {
     private Ntc2 ntc2; // only for IDCC process
     private String jsonCracUrl;
     private String preProcesedNetworkUrl;
+    private Crac crac;
+    private Double initialDichotomyStep;
     private LineFixedFlows lineFixedFlows; // only for D2CC process
     private Map<String, Double> ntcPerCountry;
 
     public CseData(CseRequest cseRequest, FileImporter fileImporter) {
         this.cseRequest = cseRequest;
         this.fileImporter = fileImporter;
+        this.networkCache = new NetworkCache(fileImporter);
     }
 
-    public Map<String, Double> getReducedSplittingFactors() {
+    public synchronized Map<String, Double> getReducedSplittingFactors() {
         if (reducedSplittingFactors == null) {
             reducedSplittingFactors = getNtc().computeReducedSplittingFactors();
         }
         return reducedSplittingFactors;
     }
 
-    public LineFixedFlows getLineFixedFlows() {
+    public synchronized LineFixedFlows getLineFixedFlows() {
         if (cseRequest.getProcessType() == ProcessType.IDCC) {
             throw new CseInternalException("Impossible to retrieve line fixed flows for IDCC process. No target CH file available");
         }
@@ -60,7 +69,7 @@ public class CseData {
         return lineFixedFlows;
     }
 
-    public Double getMniiOffset() {
+    public synchronized Double getMniiOffset() {
         if (mniiOffset != null) {
             return mniiOffset;
         }
@@ -68,7 +77,7 @@ public class CseData {
         return mniiOffset;
     }
 
-    public Map<String, Double> getNtcPerCountry() {
+    public synchronized Map<String, Double> getNtcPerCountry() {
         if (ntcPerCountry != null) {
             return ntcPerCountry;
         }
@@ -76,7 +85,7 @@ public class CseData {
         return ntcPerCountry;
     }
 
-    public Ntc getNtc() {
+    public synchronized Ntc getNtc() {
         if (ntc != null) {
             return ntc;
         }
@@ -88,7 +97,7 @@ public class CseData {
         return ntc;
     }
 
-    public Ntc2 getNtc2() {
+    public synchronized Ntc2 getNtc2() {
         if (cseRequest.getProcessType() == ProcessType.D2CC) {
             throw new CseInternalException("Impossible to retrieve NTC2 for D2CC process. No NTC2 files available");
         }
@@ -106,7 +115,7 @@ public class CseData {
         return ntc2;
     }
 
-    public CseReferenceExchanges getCseReferenceExchanges() {
+    public synchronized CseReferenceExchanges getCseReferenceExchanges() {
         if (cseReferenceExchanges != null) {
             return cseReferenceExchanges;
         }
@@ -133,6 +142,36 @@ public class CseData {
         this.preProcesedNetworkUrl = preProcesedNetworkUrl;
     }
 
+    /**
+     * CRAC created from the merged CRAC of the request, bound to the pre-processed network. It is shared by all
+     * dichotomy steps and must not be modified.
+     */
+    public Crac getCrac() {
+        return crac;
+    }
+
+    public void setCrac(Crac crac) {
+        this.crac = crac;
+    }
+
+    /**
+     * First dichotomy step to be used instead of the one of the request, when it has been narrowed by an index hint.
+     */
+    public Double getInitialDichotomyStep() {
+        return initialDichotomyStep;
+    }
+
+    public void setInitialDichotomyStep(Double initialDichotomyStep) {
+        this.initialDichotomyStep = initialDichotomyStep;
+    }
+
+    /**
+     * Networks imported from the results of the request, such as the network with PRAs of the highest secure step.
+     */
+    public NetworkCache getNetworkCache() {
+        return networkCache;
+    }
+
     private void checkNtc2OrFallback(Ntc2 ntc2) {
         Map<String, Double> ntc2Exchanges = ntc2.getExchanges();
         if (ntc2Exchanges != null && ntc2Exchanges.size() < 4) {
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Asynchronous upload of artifacts. Uploads are performed by a pool of threads, in front of which at most
+ * queueCapacity uploads may wait. When the queue is full, the upload is performed by the submitting thread.
+ */
+@ConfigurationProperties(prefix = "cse-cc-runner.artifact-upload")
+public record ArtifactUploadConfiguration(boolean enabled,
+                                          int threads,
+                                          int queueCapacity) {
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Dichotomy index hints computed from the previous results of the same process, import EC flag, hour and day of week.
+ * A hint is proposed once minSamples results are known, from the last historySize ones, with a first dichotomy step
+ * that is not lower than minInitialStep.
+ * <p>
+ * The history is only kept in memory of the runner instance, and a timestamp is computed about once a week for a
+ * given day of week and hour: with the default minSamples, a runner must stay up for weeks before proposing any hint.
+ * Until the history is persisted, this feature is only meant for tests and experiments and is disabled by default.
+ */
+@ConfigurationProperties(prefix = "cse-cc-runner.index-hints")
+public record IndexHintConfiguration(boolean enabled,
+                                     int historySize,
+                                     int minSamples,
+                                     double minInitialStep) {
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bounds of the parsed input documents cache. The size bound applies to the source documents from which cached
+ * objects were parsed, as an estimate of their memory footprint.
+ */
+@ConfigurationProperties(prefix = "cse-cc-runner.parsed-input-cache")
+public record ParsedInputCacheConfiguration(boolean enabled,
+                                            Duration timeToLive,
+                                            long maxSizeInBytes) {
+}
@@ -32,6 +32,21 @@ public class ProcessConfiguration {
     @Value("${cse-cc-runner.default-max-dichotomies-number}")
     private Integer defaultMaxDichotomiesNumber;
 
+    @Value("${cse-cc-runner.dichotomy.speculative-parallelism}")
+    private Integer speculativeDichotomyParallelism;
+
+    @Value("${cse-cc-runner.dichotomy.forced-pras-parallelism}")
+    private Integer forcedPrasDichotomyParallelism;
+
+    @Value("${cse-cc-runner.dichotomy.in-process-rao}")
+    private Boolean inProcessRao;
+
+    @Value("${cse-cc-runner.dichotomy.export-step-ucte}")
+    private Boolean exportStepUcte;
+
+    @Value("${cse-cc-runner.dichotomy.italian-import-from-rao-result}")
+    private Boolean italianImportFromRaoResult;
+
     public String getZoneId() {
         return zoneId;
     }
@@ -55,4 +70,24 @@ public class ProcessConfiguration {
     public Integer getDefaultMaxDichotomiesNumber() {
         return defaultMaxDichotomiesNumber;
     }
+
+    public Integer getSpeculativeDichotomyParallelism() {
+        return speculativeDichotomyParallelism;
+    }
+
+    public Integer getForcedPrasDichotomyParallelism() {
+        return forcedPrasDichotomyParallelism;
+    }
+
+    public boolean isInProcessRao() {
+        return Boolean.TRUE.equals(inProcessRao);
+    }
+
+    public boolean isExportStepUcte() {
+        return !Boolean.FALSE.equals(exportStepUcte);
+    }
+
+    public boolean isItalianImportFromRaoResult() {
+        return Boolean.TRUE.equals(italianImportFromRaoResult);
+    }
 }
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Linear estimation of the TTC before the dichotomy, from the flows of two shifts of the network that are probeShift
+ * MW apart. The dichotomy then starts one step of the request above the estimate.
+ */
+@ConfigurationProperties(prefix = "cse-cc-runner.ttc-estimation")
+public record TtcEstimationConfiguration(boolean enabled,
+                                         double probeShift) {
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.dichotomy;
+
+import com.farao_community.farao.cse.data.CancellationToken;
+import com.farao_community.farao.cse.import_runner.app.services.FileExporter;
+import com.farao_community.farao.cse.import_runner.app.services.FileImporter;
+import com.farao_community.farao.cse.import_runner.app.services.ForcedPrasHandler;
+import com.farao_community.farao.cse.import_runner.app.util.FlowEvaluator;
+import com.farao_community.farao.cse.import_runner.app.util.MinioStorageHelper;
+import com.farao_community.farao.cse.runner.api.resource.CseRequest;
+import com.farao_community.farao.cse.runner.api.resource.ProcessType;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.minio_adapter.starter.GridcapaFileGroup;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.searchtreerao.commons.RaoUtil;
+import com.powsybl.openrao.searchtreerao.result.api.FlowResult;
+import org.slf4j.Logger;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Common behaviour of the validators of dichotomy steps through a RAO, whatever the way the RAO is run: storage
+ * of step artifacts and application of forced preventive remedial actions.
+ */
+public abstract class AbstractRaoValidator implements NetworkValidator<DichotomyRaoResponse> {
+    protected static final String UCTE_EXTENSION = "uct";
+    protected static final String UCTE_FORMAT = "UCTE";
+    protected static final String XIIDM_EXTENSION = "xiidm";
+
+    protected final Logger businessLogger;
+    protected final ProcessType processType;
+    protected final String requestId;
+    protected final String currentRunId;
+    protected final OffsetDateTime processTargetDateTime;
+    protected final String cracUrl;
+    protected final FileExporter fileExporter;
+    protected final FileImporter fileImporter;
+    protected final boolean isImportEcProcess;
+    protected final boolean exportStepUcte;
+    protected final CancellationToken cancellationToken;
+    private final Crac crac;
+    private final ForcedPrasHandler forcedPrasHandler;
+    private final Set<String> forcedPrasIds;
+    private final AtomicInteger variantCounter = new AtomicInteger();
+
+    protected AbstractRaoValidator(CseRequest cseRequest,
+                                   String cracUrl,
+                                   Crac crac,
+                                   FileExporter fileExporter,
+                                   FileImporter fileImporter,
+                                   ForcedPrasHandler forcedPrasHandler,
+                                   Set<String> forcedPrasIds,
+                                   boolean isImportEcProcess,
+                                   boolean exportStepUcte,
+                                   CancellationToken cancellationToken,
+                                   Logger businessLogger) {
+        this.processType = cseRequest.getProcessType();
+        this.requestId = cseRequest.getId();
+        this.currentRunId = cseRequest.getCurrentRunId();
+        this.processTargetDateTime = cseRequest.getTargetProcessDateTime();
+        this.cracUrl = cracUrl;
+        this.crac = crac;
+        this.fileExporter = fileExporter;
+        this.fileImporter = fileImporter;
+        this.forcedPrasHandler = forcedPrasHandler;
+        this.forcedPrasIds = forcedPrasIds;
+        this.isImportEcProcess = isImportEcProcess;
+        this.exportStepUcte = exportStepUcte;
+        this.cancellationToken = cancellationToken;
+        this.businessLogger = businessLogger;
+    }
+
+    /**
+     * Returns the CRAC of the request when it has been provided, as the network elements it refers to are the same
+     * in every scaled network. Otherwise, the JSON CRAC is imported against the network of the step.
+     */
+    protected Crac getCrac(Network network) {
+        return crac != null ? crac : fileImporter.importCracFromJson(cracUrl, network);
+    }
+
+    /**
+     * No RAO is started for a step once the run has been hard interrupted.
+     */
+    protected void checkRunIsNotCancelled() throws RaoInterruptionException {
+        if (cancellationToken.isCancelled()) {
+            throw new RaoInterruptionException("Run has been interrupted");
+        }
+    }
+
+    protected void exportNetworkInUcteFormat(Network network, String baseDirPathForCurrentStep) {
+        if (!exportStepUcte) {
+            return;
+        }
+        // coreso request to export to Minio the intermediate network in the  UCTE format
+        String scaledNetworkInUcteFormatName = network.getNameOrId() + "." + UCTE_EXTENSION;
+        fileExporter.exportAndUploadNetwork(network, UCTE_FORMAT, GridcapaFileGroup.ARTIFACT, baseDirPathForCurrentStep + scaledNetworkInUcteFormatName, "", processTargetDateTime, processType, isImportEcProcess);
+    }
+
+    protected static List<String> getAppliedRemedialActionsInPreviousStep(Crac crac, DichotomyStepResult<?> lastDichotomyStepResult) {
+        return lastDichotomyStepResult != null && lastDichotomyStepResult.getRaoResult() != null ? lastDichotomyStepResult.getRaoResult().getActivatedNetworkActionsDuringState(crac.getPreventiveState())
+                .stream().map(NetworkAction::getId).toList() : Collections.emptyList();
+    }
+
+    protected Set<String> applyForcedPras(Crac crac, Network network) {
+        if (!forcedPrasIds.isEmpty()) {
+            Unit unit = RaoUtil.getFlowUnit(fileExporter.loadRaoParameters());
+            // It computes reference flows on the network to be able to evaluate PRAs availability
+            FlowResult flowResult = FlowEvaluator.evaluate(crac, network, unit);
+
+            // We get only the RAs that have been actually applied
+            // Even if the set is empty we still do the computation, in worst case scenario the computation is useless
+            return forcedPrasHandler.forcePras(forcedPrasIds, network, crac, flowResult, fileExporter.loadRaoParameters());
+        } else {
+            return Collections.emptySet();
+        }
+    }
+
+    protected String generateBaseDirPathFromScaledNetwork(Network network) {
+        String basePath = MinioStorageHelper.makeDestinationMinioPath(processTargetDateTime, processType, MinioStorageHelper.FileKind.ARTIFACTS, ZoneId.of(fileExporter.getZoneId()), isImportEcProcess);
+        String variantName = network.getVariantManager().getWorkingVariantId();
+        return String.format("%s/%s-%s/", basePath, variantCounter.incrementAndGet(), variantName);
+    }
+}
@@ -18,10 +18,16 @@ public class DichotomyRaoResponse {
 
     private final RaoSuccessResponse raoResponse;
     private final Set<String> forcedPrasIds;
+    private final InProcessStepArtifacts inProcessStepArtifacts;
 
     public DichotomyRaoResponse(RaoSuccessResponse raoResponse, Set<String> forcedPrasIds) {
+        this(raoResponse, forcedPrasIds, null);
+    }
+
+    public DichotomyRaoResponse(RaoSuccessResponse raoResponse, Set<String> forcedPrasIds, InProcessStepArtifacts inProcessStepArtifacts) {
         this.raoResponse = raoResponse;
         this.forcedPrasIds = forcedPrasIds;
+        this.inProcessStepArtifacts = inProcessStepArtifacts;
     }
 
     public RaoSuccessResponse getRaoResponse() {
@@ -31,4 +37,12 @@ public class DichotomyRaoResponse {
     public Set<String> getForcedPrasIds() {
         return forcedPrasIds;
     }
+
+    /**
+     * Artifacts of the step kept in memory when it has been validated in process, null otherwise: the files at the
+     * URLs of the RAO response do not exist until they are saved.
+     */
+    public InProcessStepArtifacts getInProcessStepArtifacts() {
+        return inProcessStepArtifacts;
+    }
 }
@@ -10,7 +10,10 @@ package com.farao_community.farao.cse.import_runner.app.dichotomy;
 import com.farao_community.farao.cse.computation.BorderExchanges;
 import com.farao_community.farao.cse.computation.LoadflowComputationException;
 import com.farao_community.farao.cse.data.cnec.CnecUtil;
+import com.farao_community.farao.cse.import_runner.app.configurations.ProcessConfiguration;
 import com.farao_community.farao.cse.import_runner.app.services.FileImporter;
+import com.farao_community.farao.cse.import_runner.app.util.RaoResultBorderExchanges;
+import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
@@ -19,37 +22,116 @@ import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
 import com.powsybl.iidm.network.Network;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
+ * Analytics of dichotomy steps are memoized on their validation data: the Italian import and the limiting element of
+ * a step are computed at most once, however many times they are requested. They are released with the step.
+ * <p>
+ * The Italian import is read from the flows of the RAO result held by the step when enabled and when all Italian
+ * borders are monitored by the CRAC of the run. Otherwise, it is computed with a loadflow on the network with PRAs of the
+ * step, kept in memory for steps validated in process and downloaded for the others. The source is chosen once per
+ * CRAC, that is once per run, so that the Italian imports of steps compared by a run are never computed from
+ * different sources.
+ *
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
  */
 @Service
 public final class DichotomyResultHelper {
 
     private final FileImporter fileImporter;
+    private final ProcessConfiguration processConfiguration;
+    private final Map<DichotomyRaoResponse, StepAnalytics> stepAnalytics = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<Crac, Boolean> italianImportFromRaoResultByCrac = Collections.synchronizedMap(new WeakHashMap<>());
 
-    public DichotomyResultHelper(FileImporter fileImporter) {
+    public DichotomyResultHelper(FileImporter fileImporter, ProcessConfiguration processConfiguration) {
         this.fileImporter = fileImporter;
+        this.processConfiguration = processConfiguration;
     }
 
-    public String getLimitingElement(DichotomyResult<DichotomyRaoResponse> dichotomyResult, Network network) {
+    /**
+     * When the CRAC the step has been validated with is given, the RAO result held by the step is used directly.
+     * Otherwise, the CRAC and the RAO result of the step are imported against the network.
+     */
+    public String getLimitingElement(DichotomyResult<DichotomyRaoResponse> dichotomyResult, Crac crac, Network network) {
         DichotomyStepResult<DichotomyRaoResponse> highestValidStepResult = dichotomyResult.getHighestValidStep();
-        Crac crac = fileImporter.importCracFromJson(highestValidStepResult.getValidationData()
-            .getRaoResponse().getCracFileUrl(), network);
-        RaoResult raoResult = fileImporter.importRaoResult(highestValidStepResult.getValidationData()
-            .getRaoResponse().getRaoResultFileUrl(), crac);
-        FlowCnec worstCnec = CnecUtil.getWorstCnec(crac, raoResult);
+        StepAnalytics analytics = getStepAnalytics(highestValidStepResult.getValidationData());
+        synchronized (analytics) {
+            if (analytics.limitingElement == null) {
+                analytics.limitingElement = computeLimitingElement(highestValidStepResult, crac, network);
+            }
+            return analytics.limitingElement;
+        }
+    }
+
+    /**
+     * When the CRAC the step has been validated with is given, the Italian import is read from the RAO result held
+     * by the step if possible. The network is only used to find the border branches, it is not modified.
+     */
+    public double computeLowestUnsecureItalianImport(DichotomyResult<DichotomyRaoResponse> dichotomyResult, Crac crac, Network network) throws LoadflowComputationException {
+        return getItalianImport(dichotomyResult.getLowestInvalidStep(), crac, network);
+    }
+
+    public double computeHighestSecureItalianImport(DichotomyResult<DichotomyRaoResponse> dichotomyResult, Crac crac, Network network) throws LoadflowComputationException {
+        return getItalianImport(dichotomyResult.getHighestValidStep(), crac, network);
+    }
+
+    private String computeLimitingElement(DichotomyStepResult<DichotomyRaoResponse> stepResult, Crac crac, Network network) {
+        Crac stepCrac;
+        RaoResult raoResult;
+        if (crac != null && stepResult.getRaoResult() != null) {
+            stepCrac = crac;
+            raoResult = stepResult.getRaoResult();
+        } else {
+            stepCrac = fileImporter.importCracFromJson(stepResult.getValidationData()
+                .getRaoResponse().getCracFileUrl(), network);
+            raoResult = fileImporter.importRaoResult(stepResult.getValidationData()
+                .getRaoResponse().getRaoResultFileUrl(), stepCrac);
+        }
+        FlowCnec worstCnec = CnecUtil.getWorstCnec(stepCrac, raoResult);
         return worstCnec.getName();
     }
 
-    public double computeLowestUnsecureItalianImport(DichotomyResult<DichotomyRaoResponse> dichotomyResult) throws LoadflowComputationException {
-        Network network = fileImporter.importNetwork(dichotomyResult.getLowestInvalidStep().getValidationData()
-            .getRaoResponse().getNetworkWithPraFileUrl());
-        return BorderExchanges.computeItalianImport(network);
+    private double getItalianImport(DichotomyStepResult<DichotomyRaoResponse> stepResult, Crac crac, Network network) throws LoadflowComputationException {
+        StepAnalytics analytics = getStepAnalytics(stepResult.getValidationData());
+        synchronized (analytics) {
+            if (analytics.italianImport == null) {
+                analytics.italianImport = computeItalianImport(stepResult, crac, network);
+            }
+            return analytics.italianImport;
+        }
+    }
+
+    private double computeItalianImport(DichotomyStepResult<DichotomyRaoResponse> stepResult, Crac crac, Network network) throws LoadflowComputationException {
+        if (isItalianImportFromRaoResult(crac, network)) {
+            if (stepResult.getRaoResult() == null) {
+                throw new CseInternalException("Italian import of the step cannot be read from its RAO result");
+            }
+            return RaoResultBorderExchanges.computeItalianImport(network, crac, stepResult.getRaoResult());
+        }
+        InProcessStepArtifacts inProcessStepArtifacts = stepResult.getValidationData().getInProcessStepArtifacts();
+        if (inProcessStepArtifacts != null) {
+            return inProcessStepArtifacts.computeItalianImport();
+        }
+        Network networkWithPra = fileImporter.importNetwork(stepResult.getValidationData().getRaoResponse().getNetworkWithPraFileUrl());
+        return BorderExchanges.computeItalianImport(networkWithPra);
+    }
+
+    private boolean isItalianImportFromRaoResult(Crac crac, Network network) {
+        if (!processConfiguration.isItalianImportFromRaoResult() || crac == null) {
+            return false;
+        }
+        return italianImportFromRaoResultByCrac.computeIfAbsent(crac, runCrac -> RaoResultBorderExchanges.canComputeItalianImport(network, runCrac));
+    }
+
+    private StepAnalytics getStepAnalytics(DichotomyRaoResponse dichotomyRaoResponse) {
+        return stepAnalytics.computeIfAbsent(dichotomyRaoResponse, response -> new StepAnalytics());
     }
 
-    public double computeHighestSecureItalianImport(DichotomyResult<DichotomyRaoResponse> dichotomyResult) throws LoadflowComputationException {
-        Network network = fileImporter.importNetwork(dichotomyResult.getHighestValidStep().getValidationData()
-            .getRaoResponse().getNetworkWithPraFileUrl());
-        return BorderExchanges.computeItalianImport(network);
+    private static final class StepAnalytics {
+        private Double italianImport;
+        private String limitingElement;
     }
 }
@@ -6,32 +6,46 @@
  */
 package com.farao_community.farao.cse.import_runner.app.dichotomy;
 
+import com.farao_community.farao.cse.data.CancellationToken;
 import com.farao_community.farao.cse.import_runner.app.CseData;
+import com.farao_community.farao.cse.import_runner.app.configurations.ProcessConfiguration;
 import com.farao_community.farao.cse.import_runner.app.services.FileExporter;
 import com.farao_community.farao.cse.import_runner.app.services.FileImporter;
 import com.farao_community.farao.cse.import_runner.app.services.ForcedPrasHandler;
 import com.farao_community.farao.cse.import_runner.app.services.InterruptionService;
+import com.farao_community.farao.cse.import_runner.app.services.RaoRunnerStopService;
 import com.farao_community.farao.cse.runner.api.resource.CseRequest;
 import com.farao_community.farao.dichotomy.api.DichotomyEngine;
+import com.farao_community.farao.dichotomy.api.InterruptionStrategy;
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
 import com.farao_community.farao.dichotomy.api.NetworkValidator;
 import com.farao_community.farao.dichotomy.api.index.BiDirectionalStepsWithReferenceIndexStrategy;
 import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
 import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
 import com.farao_community.farao.rao_runner.starter.RaoRunnerClient;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import com.powsybl.openrao.data.crac.api.Crac;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
  */
 @Service
 public class DichotomyRunner {
-    private static final double MIN_IMPORT_VALUE = 0;
-    private static final double MAX_IMPORT_VALUE = 19999;
+    static final double MIN_IMPORT_VALUE = 0;
+    static final double MAX_IMPORT_VALUE = 19999;
     private static final String DICHOTOMY_PARAMETERS_MSG = "Starting dichotomy index: {}, Minimum dichotomy index: {}, Maximum dichotomy index: {}, Initial dichotomy step: {}, Dichotomy precision: {}";
 
     private final FileExporter fileExporter;
@@ -41,8 +55,10 @@ public class DichotomyRunner {
     private final RaoRunnerClient raoRunnerClient;
     private final Logger businessLogger;
     private final InterruptionService interruptionService;
+    private final ProcessConfiguration processConfiguration;
+    private final RaoRunnerStopService raoRunnerStopService;
 
-    public DichotomyRunner(FileExporter fileExporter, FileImporter fileImporter, NetworkShifterProvider networkShifterProvider, ForcedPrasHandler forcedPrasHandler, RaoRunnerClient raoRunnerClient, Logger businessLogger, InterruptionService interruptionService) {
+    public DichotomyRunner(FileExporter fileExporter, FileImporter fileImporter, NetworkShifterProvider networkShifterProvider, ForcedPrasHandler forcedPrasHandler, RaoRunnerClient raoRunnerClient, Logger businessLogger, InterruptionService interruptionService, ProcessConfiguration processConfiguration, RaoRunnerStopService raoRunnerStopService) {
         this.fileExporter = fileExporter;
         this.fileImporter = fileImporter;
         this.networkShifterProvider = networkShifterProvider;
@@ -50,6 +66,8 @@ public class DichotomyRunner {
         this.raoRunnerClient = raoRunnerClient;
         this.businessLogger = businessLogger;
         this.interruptionService = interruptionService;
+        this.processConfiguration = processConfiguration;
+        this.raoRunnerStopService = raoRunnerStopService;
     }
 
     public DichotomyResult<DichotomyRaoResponse> runDichotomy(final CseRequest cseRequest,
@@ -70,34 +88,155 @@ public class DichotomyRunner {
                                                               final Map<String, Double> referenceExchanges,
                                                               final Map<String, Double> ntcsByEic,
                                                               final Set<String> forcedPrasIds) {
-        final double initialDichotomyStep = cseRequest.getInitialDichotomyStep();
+        return runDichotomy(cseRequest, cseData, network, initialIndexValue, minImportValue, referenceExchanges, ntcsByEic, forcedPrasIds, interruptionService);
+    }
+
+    /**
+     * Runs a dichotomy whose soft interruption is checked with the given strategy, instead of being acknowledged
+     * for the run of the request.
+     */
+    public DichotomyResult<DichotomyRaoResponse> runDichotomy(final CseRequest cseRequest,
+                                                              final CseData cseData,
+                                                              final Network network,
+                                                              final double initialIndexValue,
+                                                              final double minImportValue,
+                                                              final Map<String, Double> referenceExchanges,
+                                                              final Map<String, Double> ntcsByEic,
+                                                              final Set<String> forcedPrasIds,
+                                                              final InterruptionStrategy interruptionStrategy) {
+        final double initialDichotomyStep = Optional.ofNullable(cseData.getInitialDichotomyStep()).orElse(cseRequest.getInitialDichotomyStep());
         final double dichotomyPrecision = cseRequest.getDichotomyPrecision();
         businessLogger.info(DICHOTOMY_PARAMETERS_MSG, (int) initialIndexValue, (int) minImportValue, (int) MAX_IMPORT_VALUE, (int) initialDichotomyStep, (int) dichotomyPrecision);
         final Index<DichotomyRaoResponse> index = new Index<>(minImportValue, MAX_IMPORT_VALUE, dichotomyPrecision);
-        final DichotomyEngine<DichotomyRaoResponse> engine = DichotomyEngine.<DichotomyRaoResponse>builder()
+        final NetworkShifter networkShifter = networkShifterProvider.get(cseRequest, cseData, network, referenceExchanges, ntcsByEic);
+        final String raoParametersUrl = processConfiguration.isInProcessRao() ? null : fileExporter.saveRaoParameters(cseRequest.getTargetProcessDateTime(), cseRequest.getProcessType(), cseRequest.isImportEcProcess());
+        final NetworkValidator<DichotomyRaoResponse> networkValidator = getNetworkValidator(cseRequest, cseData, forcedPrasIds, raoParametersUrl, cseRequest.getCurrentRunId(), raoRunnerStopService::stopRao);
+        final int speculativeParallelism = getSpeculativeParallelism();
+        if (speculativeParallelism <= 0) {
+            return buildEngine(cseRequest, index, newIndexStrategy(initialIndexValue, initialDichotomyStep, referenceExchanges), interruptionStrategy, networkShifter, networkValidator).run(network);
+        }
+
+        final List<Network> laneNetworks = new ArrayList<>();
+        for (int i = 0; i < speculativeParallelism; i++) {
+            laneNetworks.add(NetworkSerDe.copy(network));
+        }
+        try (SpeculativeDichotomySteps speculativeSteps = new SpeculativeDichotomySteps(
+                networkShifter,
+                networkValidator,
+                new DichotomySpeculationContext(cseRequest, cseData, forcedPrasIds, raoParametersUrl, network),
+                // Speculations ask their own instance of the index strategy of the engine for the next steps
+                newIndexStrategy(initialIndexValue, initialDichotomyStep, referenceExchanges),
+                laneNetworks,
+                laneNetwork -> networkShifterProvider.get(cseRequest, cseData, laneNetwork, referenceExchanges, ntcsByEic),
+                minImportValue,
+                MAX_IMPORT_VALUE,
+                dichotomyPrecision)) {
+            return buildEngine(cseRequest, index, newIndexStrategy(initialIndexValue, initialDichotomyStep, referenceExchanges), interruptionStrategy, speculativeSteps, speculativeSteps).run(network);
+        }
+    }
+
+    private DichotomyEngine<DichotomyRaoResponse> buildEngine(CseRequest cseRequest,
+                                                              Index<DichotomyRaoResponse> index,
+                                                              IndexStrategy<DichotomyRaoResponse> indexStrategy,
+                                                              InterruptionStrategy interruptionStrategy,
+                                                              NetworkShifter networkShifter,
+                                                              NetworkValidator<DichotomyRaoResponse> networkValidator) {
+        return DichotomyEngine.<DichotomyRaoResponse>builder()
                 .withIndex(index)
-                .withIndexStrategy(new BiDirectionalStepsWithReferenceIndexStrategy<>(initialIndexValue, initialDichotomyStep, NetworkShifterUtil.getReferenceItalianImport(referenceExchanges)))
-                .withInterruptionStrategy(interruptionService)
-                .withNetworkShifter(networkShifterProvider.get(cseRequest, cseData, network, referenceExchanges, ntcsByEic))
-                .withNetworkValidator(getNetworkValidator(cseRequest, cseData, forcedPrasIds))
+                .withIndexStrategy(indexStrategy)
+                .withInterruptionStrategy(interruptionStrategy)
+                .withNetworkShifter(networkShifter)
+                .withNetworkValidator(networkValidator)
                 .withNetworkExporter(new CseNetworkExporter(cseRequest, fileExporter))
                 .withRunId(cseRequest.getCurrentRunId())
                 .build();
-        return engine.run(network);
     }
 
-    private NetworkValidator<DichotomyRaoResponse> getNetworkValidator(CseRequest request, CseData cseData, Set<String> forcedPrasIds) {
+    private static IndexStrategy<DichotomyRaoResponse> newIndexStrategy(double initialIndexValue, double initialDichotomyStep, Map<String, Double> referenceExchanges) {
+        return new BiDirectionalStepsWithReferenceIndexStrategy<>(initialIndexValue, initialDichotomyStep, NetworkShifterUtil.getReferenceItalianImport(referenceExchanges));
+    }
+
+    private int getSpeculativeParallelism() {
+        final Integer speculativeParallelism = processConfiguration.getSpeculativeDichotomyParallelism();
+        return speculativeParallelism != null ? speculativeParallelism : 0;
+    }
+
+    private NetworkValidator<DichotomyRaoResponse> getNetworkValidator(CseRequest request, CseData cseData, Set<String> forcedPrasIds, String raoParametersUrl, String raoRunId, Consumer<String> raoStopper) {
         final boolean isImportEcProcess = request.isImportEcProcess();
+        final CancellationToken cancellationToken = interruptionService.getCancellationToken(request.getCurrentRunId());
+        if (processConfiguration.isInProcessRao()) {
+            return new InProcessRaoValidator(
+                    request,
+                    cseData.getJsonCracUrl(),
+                    cseData.getCrac(),
+                    fileExporter,
+                    fileImporter,
+                    forcedPrasHandler,
+                    forcedPrasIds,
+                    isImportEcProcess,
+                    processConfiguration.isExportStepUcte(),
+                    cancellationToken,
+                    businessLogger);
+        }
         return new RaoRunnerValidator(
                 request,
                 cseData.getJsonCracUrl(),
-                fileExporter.saveRaoParameters(request.getTargetProcessDateTime(), request.getProcessType(), isImportEcProcess),
+                cseData.getCrac(),
+                raoParametersUrl,
                 raoRunnerClient,
                 fileExporter,
                 fileImporter,
                 forcedPrasHandler,
                 forcedPrasIds,
                 isImportEcProcess,
-                businessLogger);
+                processConfiguration.isExportStepUcte(),
+                cancellationToken,
+                businessLogger,
+                raoRunId,
+                raoStopper);
+    }
+
+    /**
+     * Speculative steps of a dichotomy are validated by their own validators, each RAO being run in the RAO runner
+     * under its own run ID so that it is stopped as soon as the speculation is discarded.
+     */
+    private final class DichotomySpeculationContext implements SpeculativeDichotomySteps.SpeculationContext {
+        private final CseRequest cseRequest;
+        private final CseData cseData;
+        private final Set<String> forcedPrasIds;
+        private final String raoParametersUrl;
+        private final Crac crac;
+        private final AtomicInteger speculationCounter = new AtomicInteger();
+
+        private DichotomySpeculationContext(CseRequest cseRequest, CseData cseData, Set<String> forcedPrasIds, String raoParametersUrl, Network network) {
+            this.cseRequest = cseRequest;
+            this.cseData = cseData;
+            this.forcedPrasIds = forcedPrasIds;
+            this.raoParametersUrl = raoParametersUrl;
+            // Remedial actions are referred to by ID only, the CRAC imported on the initial network is valid for every step
+            this.crac = cseData.getCrac() != null ? cseData.getCrac() : fileImporter.importCracFromJson(cseData.getJsonCracUrl(), network);
+        }
+
+        @Override
+        public NetworkValidator<DichotomyRaoResponse> newSpeculativeValidator() {
+            final String raoRunId = cseRequest.getCurrentRunId() + "-speculative-" + speculationCounter.incrementAndGet();
+            return getNetworkValidator(cseRequest, cseData, forcedPrasIds, raoParametersUrl, raoRunId, raoRunnerStopService::stopRao);
+        }
+
+        @Override
+        public Object getPredecessorSignature(DichotomyStepResult<?> predecessor) {
+            // The previous step only changes the RAO inputs of a step through its applied preventive network actions
+            return Set.copyOf(AbstractRaoValidator.getAppliedRemedialActionsInPreviousStep(crac, predecessor));
+        }
+
+        @Override
+        public void applyForcedPras(Network network, Set<String> appliedForcedPrasIds) {
+            appliedForcedPrasIds.forEach(forcedPraId -> crac.getNetworkAction(forcedPraId).apply(network));
+        }
+
+        @Override
+        public boolean isSoftInterruptionRequested() {
+            return interruptionService.isSoftInterruptionRequested(cseRequest.getCurrentRunId());
+        }
     }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.dichotomy;
+
+import com.farao_community.farao.cse.data.CancellationToken;
+import com.farao_community.farao.cse.import_runner.app.services.FileExporter;
+import com.farao_community.farao.cse.import_runner.app.services.FileImporter;
+import com.farao_community.farao.cse.import_runner.app.services.ForcedPrasHandler;
+import com.farao_community.farao.cse.network_processing.pra_application.PraApplier;
+import com.farao_community.farao.cse.runner.api.resource.CseRequest;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.raoapi.Rao;
+import com.powsybl.openrao.raoapi.RaoInput;
+import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates dichotomy steps by running the search tree RAO in the current process, on the working variant of the
+ * network, instead of delegating it to the RAO runner. The scaled network does not need to be uploaded and the RAO
+ * result is used as computed, without being downloaded and parsed again. As for the RAO runner, the RAO is run on the
+ * scaled network and forced PRAs are applied on it afterwards.
+ * <p>
+ * The network with preventive remedial actions and the RAO result are kept in memory as {@link InProcessStepArtifacts}
+ * instead of being saved by every step. The produced {@link DichotomyRaoResponse} refers to the same artifact URLs as
+ * the one of the RAO runner, the files being only uploaded for the step kept as result of the run.
+ */
+public class InProcessRaoValidator extends AbstractRaoValidator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InProcessRaoValidator.class);
+    private static final String SEARCH_TREE_RAO = "SearchTreeRao";
+    private static final String NETWORK_WITH_PRA_FILE_NAME = "networkWithPRA." + XIIDM_EXTENSION;
+    private static final String RAO_RESULT_FILE_NAME = "raoResult.json";
+    private static final String NETWORK_WITH_PRA_VARIANT_PREFIX = "in-process-network-with-pra-";
+    // Variants of steps kept as long as the steps, including those of previous dichotomies run on the same network
+    private static final AtomicInteger NETWORK_WITH_PRA_VARIANT_COUNTER = new AtomicInteger();
+
+    public InProcessRaoValidator(CseRequest cseRequest,
+                                 String cracUrl,
+                                 Crac crac,
+                                 FileExporter fileExporter,
+                                 FileImporter fileImporter,
+                                 ForcedPrasHandler forcedPrasHandler,
+                                 Set<String> forcedPrasIds,
+                                 boolean isImportEcProcess,
+                                 boolean exportStepUcte,
+                                 CancellationToken cancellationToken,
+                                 Logger businessLogger) {
+        super(cseRequest, cracUrl, crac, fileExporter, fileImporter, forcedPrasHandler, forcedPrasIds, isImportEcProcess, exportStepUcte, cancellationToken, businessLogger);
+    }
+
+    @Override
+    public DichotomyStepResult<DichotomyRaoResponse> validateNetwork(Network network, DichotomyStepResult lastDichotomyStepResult) throws ValidationException, RaoInterruptionException, RaoFailureException {
+        checkRunIsNotCancelled();
+        String baseDirPathForCurrentStep = generateBaseDirPathFromScaledNetwork(network);
+        exportNetworkInUcteFormat(network, baseDirPathForCurrentStep);
+        try {
+            Crac crac = getCrac(network);
+            List<String> appliedRemedialActionInPreviousStep = getAppliedRemedialActionsInPreviousStep(crac, lastDichotomyStepResult);
+            // As for RAO runner requests, a single remedial action applied in previous step is not worth a combination
+            RaoParameters raoParameters = fileExporter.getRaoParameters(appliedRemedialActionInPreviousStep.size() == 1 ? Collections.emptyList() : appliedRemedialActionInPreviousStep);
+            checkRunIsNotCancelled();
+
+            LOGGER.info("In-process RAO started for step {}", baseDirPathForCurrentStep);
+            Instant computationStartInstant = Instant.now();
+            RaoInput raoInput = RaoInput.build(network, crac)
+                .withNetworkVariantId(network.getVariantManager().getWorkingVariantId())
+                .build();
+            RaoResult raoResult = Rao.find(SEARCH_TREE_RAO).run(raoInput, raoParameters);
+            Instant computationEndInstant = Instant.now();
+            LOGGER.info("In-process RAO finished for step {}", baseDirPathForCurrentStep);
+            if (raoResult.getComputationStatus() == ComputationStatus.FAILURE) {
+                businessLogger.error("RAO computation failed");
+                throw new RaoFailureException("In-process RAO computation failed");
+            }
+
+            String networkWithPraVariantId = createNetworkWithPraVariant(network, crac, raoResult);
+            String networkWithPraPath = baseDirPathForCurrentStep + NETWORK_WITH_PRA_FILE_NAME;
+            String networkWithPraUrl = fileExporter.getArtifactUrl(networkWithPraPath);
+            String raoResultPath = baseDirPathForCurrentStep + RAO_RESULT_FILE_NAME;
+            InProcessStepArtifacts stepArtifacts = new InProcessStepArtifacts(network, networkWithPraVariantId, crac, raoResult,
+                networkWithPraPath, networkWithPraUrl, raoResultPath, fileExporter, processTargetDateTime, processType, isImportEcProcess);
+            // As for RAO runner requests, the RAO is run without forced PRAs that are only applied on the step network
+            Set<String> appliedForcedPras = applyForcedPras(crac, network);
+
+            logFailedContingencies(crac, raoResult);
+
+            RaoSuccessResponse raoResponse = new RaoSuccessResponse.Builder()
+                .withId(requestId)
+                .withNetworkWithPraFileUrl(networkWithPraUrl)
+                .withCracFileUrl(cracUrl)
+                .withRaoResultFileUrl(fileExporter.getArtifactUrl(raoResultPath))
+                .withComputationStartInstant(computationStartInstant)
+                .withComputationEndInstant(computationEndInstant)
+                .withInterrupted(false)
+                .build();
+            return DichotomyStepResult.fromNetworkValidationResult(raoResult, new DichotomyRaoResponse(raoResponse, appliedForcedPras, stepArtifacts));
+        } catch (RuntimeException e) {
+            LOGGER.error("Exception occurred during in-process validation. Nested exception: {}", e.getMessage());
+            throw new ValidationException("RAO run failed", e);
+        }
+    }
+
+    private void logFailedContingencies(Crac crac, RaoResult raoResult) {
+        crac.getStates().stream()
+            .filter(state -> !state.isPreventive())
+            .filter(state -> raoResult.getComputationStatus(state) == ComputationStatus.FAILURE)
+            .forEach(state -> businessLogger.warn("Computation failed for contingency {} at instant {}",
+                state.getContingency().map(Contingency::getId).orElse(""), state.getInstant().getId()));
+    }
+
+    /**
+     * Applies the preventive remedial actions of the RAO result, as the RAO runner does, on a new variant kept for
+     * the artifacts of the step, so that the working variant of the dichotomy step is left unchanged.
+     */
+    private static String createNetworkWithPraVariant(Network network, Crac crac, RaoResult raoResult) {
+        VariantManager variantManager = network.getVariantManager();
+        String stepVariantId = variantManager.getWorkingVariantId();
+        String networkWithPraVariantId = NETWORK_WITH_PRA_VARIANT_PREFIX + NETWORK_WITH_PRA_VARIANT_COUNTER.incrementAndGet();
+        variantManager.cloneVariant(stepVariantId, networkWithPraVariantId, true);
+        variantManager.setWorkingVariant(networkWithPraVariantId);
+        try {
+            PraApplier.applyPreventiveRemedialActions(network, crac, raoResult);
+        } finally {
+            variantManager.setWorkingVariant(stepVariantId);
+        }
+        return networkWithPraVariantId;
+    }
+}
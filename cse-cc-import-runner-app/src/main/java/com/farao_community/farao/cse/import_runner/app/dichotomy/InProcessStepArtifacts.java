@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.dichotomy;
+
+import com.farao_community.farao.cse.computation.BorderExchanges;
+import com.farao_community.farao.cse.computation.LoadflowComputationException;
+import com.farao_community.farao.cse.import_runner.app.services.FileExporter;
+import com.farao_community.farao.cse.import_runner.app.services.NetworkCache;
+import com.farao_community.farao.cse.runner.api.resource.ProcessType;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Network with preventive remedial actions and RAO result of a dichotomy step validated in process, kept in memory
+ * instead of being uploaded by the step. The network with PRAs is held by a dedicated variant of the network of the
+ * step, which is kept as long as the step.
+ * <p>
+ * Only the steps actually used by the run read these artifacts: the Italian import is computed on the variant, and
+ * the files are only uploaded for the step kept as result of the run, to the URLs of its {@link DichotomyRaoResponse}.
+ * The network must not be used by a dichotomy anymore when they are read.
+ */
+public class InProcessStepArtifacts {
+    private final Network network;
+    private final String networkWithPraVariantId;
+    private final Crac crac;
+    private final RaoResult raoResult;
+    private final String networkWithPraPath;
+    private final String networkWithPraUrl;
+    private final String raoResultPath;
+    private final FileExporter fileExporter;
+    private final OffsetDateTime processTargetDateTime;
+    private final ProcessType processType;
+    private final boolean isImportEcProcess;
+    private boolean saved;
+
+    InProcessStepArtifacts(Network network,
+                           String networkWithPraVariantId,
+                           Crac crac,
+                           RaoResult raoResult,
+                           String networkWithPraPath,
+                           String networkWithPraUrl,
+                           String raoResultPath,
+                           FileExporter fileExporter,
+                           OffsetDateTime processTargetDateTime,
+                           ProcessType processType,
+                           boolean isImportEcProcess) {
+        this.network = network;
+        this.networkWithPraVariantId = networkWithPraVariantId;
+        this.crac = crac;
+        this.raoResult = raoResult;
+        this.networkWithPraPath = networkWithPraPath;
+        this.networkWithPraUrl = networkWithPraUrl;
+        this.raoResultPath = raoResultPath;
+        this.fileExporter = fileExporter;
+        this.processTargetDateTime = processTargetDateTime;
+        this.processType = processType;
+        this.isImportEcProcess = isImportEcProcess;
+    }
+
+    /**
+     * The loadflow is run on a copy of the variant with PRAs, which is left unchanged.
+     */
+    public double computeItalianImport() throws LoadflowComputationException {
+        // The working variant of a network is shared by all threads, concurrent consumers have to take turns
+        synchronized (network) {
+            VariantManager variantManager = network.getVariantManager();
+            String initialVariantId = variantManager.getWorkingVariantId();
+            String loadflowVariantId = networkWithPraVariantId + "-loadflow";
+            variantManager.cloneVariant(networkWithPraVariantId, loadflowVariantId, true);
+            variantManager.setWorkingVariant(loadflowVariantId);
+            try {
+                return BorderExchanges.computeItalianImport(network);
+            } finally {
+                variantManager.setWorkingVariant(initialVariantId);
+                variantManager.removeVariant(loadflowVariantId);
+            }
+        }
+    }
+
+    /**
+     * Uploads the network with PRAs and the RAO result of the step, once, and caches the network for the URL of the
+     * network with PRAs so that its consumers do not download it again. The variant with PRAs becomes the working
+     * variant of the network.
+     */
+    public synchronized void save(NetworkCache networkCache) {
+        if (saved) {
+            return;
+        }
+        fileExporter.saveRaoResult(raoResult, crac, raoResultPath, processTargetDateTime, processType, isImportEcProcess);
+        synchronized (network) {
+            network.getVariantManager().setWorkingVariant(networkWithPraVariantId);
+            fileExporter.saveNetworkInArtifact(network, networkWithPraPath, "", processTargetDateTime, processType, isImportEcProcess);
+        }
+        networkCache.put(networkWithPraUrl, network);
+        saved = true;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.dichotomy;
+
+import com.farao_community.farao.cse.import_runner.app.CseData;
+import com.farao_community.farao.cse.import_runner.app.configurations.TtcEstimationConfiguration;
+import com.farao_community.farao.cse.import_runner.app.services.FileExporter;
+import com.farao_community.farao.cse.import_runner.app.util.FlowEvaluator;
+import com.farao_community.farao.cse.runner.api.resource.CseRequest;
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.searchtreerao.commons.RaoUtil;
+import com.powsybl.openrao.searchtreerao.result.api.FlowResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.stream.Collectors;
+
+/**
+ * Estimates, before the dichotomy, the Italian import at which the first optimized CNEC reaches its limit without
+ * remedial actions. The network is shifted at two indexes, probeShift MW apart, with the shifter of the dichotomy:
+ * the margin variation of each CNEC between both load flows is its sensitivity to the Italian import, from which
+ * the index of zero margin is extrapolated linearly.
+ * <p>
+ * Remedial actions only increase the TTC, so the estimate is expected to be secure: the dichotomy starts one step of
+ * the request above it, which is kept as first step, rather than at the estimate whose validation would only lead to
+ * this next step.
+ */
+@Service
+public class LinearTtcEstimator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LinearTtcEstimator.class);
+    private static final String ESTIMATION_VARIANT_ID = "ttc-estimation";
+    private static final double MIN_MARGIN_VARIATION = 1e-3;
+
+    private final NetworkShifterProvider networkShifterProvider;
+    private final FileExporter fileExporter;
+    private final TtcEstimationConfiguration ttcEstimationConfiguration;
+
+    public LinearTtcEstimator(NetworkShifterProvider networkShifterProvider, FileExporter fileExporter, TtcEstimationConfiguration ttcEstimationConfiguration) {
+        this.networkShifterProvider = networkShifterProvider;
+        this.fileExporter = fileExporter;
+        this.ttcEstimationConfiguration = ttcEstimationConfiguration;
+    }
+
+    public OptionalDouble estimate(CseRequest cseRequest,
+                                   CseData cseData,
+                                   Network network,
+                                   double referenceIndexValue,
+                                   Map<String, Double> referenceExchanges,
+                                   Map<String, Double> ntcsByEic) {
+        if (!ttcEstimationConfiguration.enabled() || cseData.getCrac() == null) {
+            return OptionalDouble.empty();
+        }
+        try {
+            final Crac crac = cseData.getCrac();
+            final Unit unit = RaoUtil.getFlowUnit(fileExporter.loadRaoParameters());
+            final NetworkShifter networkShifter = networkShifterProvider.get(cseRequest, cseData, network, referenceExchanges, ntcsByEic);
+            final double probeShift = ttcEstimationConfiguration.probeShift();
+            final Map<String, Double> referenceMargins = computeMargins(network, networkShifter, crac, unit, referenceIndexValue);
+            final Map<String, Double> probeMargins = computeMargins(network, networkShifter, crac, unit, referenceIndexValue + probeShift);
+            final OptionalDouble estimatedIndex = estimateIndex(referenceMargins, probeMargins, referenceIndexValue, probeShift);
+            if (estimatedIndex.isEmpty()) {
+                LOGGER.info("No optimized CNEC gets closer to its limit when the Italian import increases, TTC cannot be estimated");
+                return OptionalDouble.empty();
+            }
+            final double initialIndexValue = getInitialIndexValue(estimatedIndex.getAsDouble(), cseRequest.getInitialDichotomyStep());
+            LOGGER.info("Linear TTC estimate without remedial actions: {}, starting index {}", estimatedIndex.getAsDouble(), initialIndexValue);
+            return OptionalDouble.of(initialIndexValue);
+        } catch (GlskLimitationException | ShiftingException | RuntimeException e) {
+            LOGGER.warn("TTC could not be estimated, dichotomy starts from the default index: {}", e.getMessage());
+            return OptionalDouble.empty();
+        }
+    }
+
+    static double getInitialIndexValue(double estimatedIndex, double initialDichotomyStep) {
+        return Math.clamp(estimatedIndex + initialDichotomyStep, DichotomyRunner.MIN_IMPORT_VALUE, DichotomyRunner.MAX_IMPORT_VALUE);
+    }
+
+    /**
+     * Lowest index at which an optimized CNEC reaches a zero margin, extrapolated from its margins at two indexes.
+     */
+    static OptionalDouble estimateIndex(Map<String, Double> referenceMargins, Map<String, Double> probeMargins, double referenceIndexValue, double probeShift) {
+        return referenceMargins.entrySet().stream()
+            .filter(entry -> probeMargins.containsKey(entry.getKey()))
+            .filter(entry -> entry.getValue() - probeMargins.get(entry.getKey()) > MIN_MARGIN_VARIATION)
+            .mapToDouble(entry -> referenceIndexValue + entry.getValue() * probeShift / (entry.getValue() - probeMargins.get(entry.getKey())))
+            .min();
+    }
+
+    private static Map<String, Double> computeMargins(Network network, NetworkShifter networkShifter, Crac crac, Unit unit, double indexValue) throws GlskLimitationException, ShiftingException {
+        final VariantManager variantManager = network.getVariantManager();
+        final String initialVariantId = variantManager.getWorkingVariantId();
+        variantManager.cloneVariant(initialVariantId, ESTIMATION_VARIANT_ID, true);
+        variantManager.setWorkingVariant(ESTIMATION_VARIANT_ID);
+        try {
+            networkShifter.shiftNetwork(indexValue, network);
+            final FlowResult flowResult = FlowEvaluator.evaluate(crac, network, unit);
+            return crac.getFlowCnecs().stream()
+                .filter(FlowCnec::isOptimized)
+                .collect(Collectors.toMap(FlowCnec::getId, flowCnec -> flowResult.getMargin(flowCnec, unit)));
+        } finally {
+            variantManager.setWorkingVariant(initialVariantId);
+            variantManager.removeVariant(ESTIMATION_VARIANT_ID);
+        }
+    }
+}
@@ -11,18 +11,27 @@ import com.farao_community.farao.cse.computation.LoadflowComputationException;
 import com.farao_community.farao.cse.data.ttc_res.TtcResult;
 import com.farao_community.farao.cse.import_runner.app.CseData;
 import com.farao_community.farao.cse.import_runner.app.configurations.ProcessConfiguration;
+import com.farao_community.farao.cse.import_runner.app.services.InterruptionService;
+import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
 import com.farao_community.farao.cse.runner.api.resource.CseRequest;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
 import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.farao_community.farao.dichotomy.api.InterruptionStrategy;
 import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.NetworkSerDe;
 import org.apache.commons.collections4.CollectionUtils;
 import org.slf4j.Logger;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -42,13 +51,15 @@ public class MultipleDichotomyRunner {
     private final ProcessConfiguration processConfiguration;
     private final DichotomyRunner dichotomyRunner;
     private final DichotomyResultHelper dichotomyResultHelper;
+    private final InterruptionService interruptionService;
     private final Logger businessLogger;
 
     public MultipleDichotomyRunner(ProcessConfiguration processConfiguration, DichotomyRunner dichotomyRunner,
-                                   DichotomyResultHelper dichotomyResultHelper, Logger logger) {
+                                   DichotomyResultHelper dichotomyResultHelper, InterruptionService interruptionService, Logger logger) {
         this.processConfiguration = processConfiguration;
         this.dichotomyRunner = dichotomyRunner;
         this.dichotomyResultHelper = dichotomyResultHelper;
+        this.interruptionService = interruptionService;
         this.businessLogger = logger;
     }
 
@@ -87,8 +98,8 @@ public class MultipleDichotomyRunner {
         String limitingCause = TtcResult.limitingCauseToString(initialDichotomyResult.getLimitingCause());
 
         if (initialDichotomyResult.hasValidStep()) {
-            limitingElement = dichotomyResultHelper.getLimitingElement(multipleDichotomyResult.getBestDichotomyResult(), network);
-            ttcString = String.valueOf(round(dichotomyResultHelper.computeHighestSecureItalianImport(initialDichotomyResult)));
+            limitingElement = dichotomyResultHelper.getLimitingElement(multipleDichotomyResult.getBestDichotomyResult(), crac, network);
+            ttcString = String.valueOf(round(dichotomyResultHelper.computeHighestSecureItalianImport(initialDichotomyResult, crac, network)));
             printablePrasIds = toString(getActivatedRangeActionInPreventive(crac, initialDichotomyResult));
             printableForcedPrasIds = toString(getForcedPrasIds(initialDichotomyResult));
         }
@@ -109,90 +120,129 @@ public class MultipleDichotomyRunner {
         int counterPerLimitingElement = 0;
         Set<String> additionalPrasToBeForced = getAdditionalPrasToBeForced(automatedForcedPrasIds, limitingElement, counterPerLimitingElement);
 
-        while (dichotomyCount <= maximumDichotomiesNumber && !additionalPrasToBeForced.isEmpty()) {
-            if (!checkIfPrasCombinationHasImpactOnNetwork(additionalPrasToBeForced, crac, network)) {
-                if (businessLogger.isInfoEnabled()) {
-                    logSummary(DICHOTOMY_COUNT + dichotomyCount,
-                        "Additional forced PRAs have no impact on the network",
-                        toString(CollectionUtils.union(flattenPrasIds(forcedPrasIds), additionalPrasToBeForced)));
-                }
-                counterPerLimitingElement++;
-            } else {
-                double lastUnsecureItalianImport = dichotomyResultHelper.computeLowestUnsecureItalianImport(multipleDichotomyResult.getBestDichotomyResult());
-                forcedPrasIds.add(additionalPrasToBeForced); // We add the new forced PRAs to the historical register of the forced PRAs
-
-                // We launch a new dichotomy still based on initial network but with a higher starting index -- previous unsecure index.
-                // As we already computed a reference TTC we tweak the index so that it doesn't go below the starting
-                // index -- if so we can just consider the previous result.
-                // We pass to the dichotomy all the forced PRAs we want to apply including manual forced PRAs
-                DichotomyResult<DichotomyRaoResponse> nextDichotomyResult = dichotomyRunner.runDichotomy(
-                    request,
-                    cseData,
-                    network,
-                    lastUnsecureItalianImport,
-                    lastUnsecureItalianImport,
-                    referenceExchanges,
-                    ntcsByEic,
-                    flattenPrasIds(forcedPrasIds));
-
-                if (nextDichotomyResult.isRaoFailed()) {
-                    multipleDichotomyResult.setRaoFailed(true);
-                    return multipleDichotomyResult;
-                }
-
-                if (nextDichotomyResult.isInterrupted()) {
-                    multipleDichotomyResult.addResult(nextDichotomyResult, flattenPrasIds(forcedPrasIds));
+        final ExecutorService executorService = getForcedPrasExecutorService();
+        final Map<Set<String>, Future<DichotomyResult<DichotomyRaoResponse>>> pendingDichotomies = new HashMap<>();
+        try {
+            while (dichotomyCount <= maximumDichotomiesNumber && !additionalPrasToBeForced.isEmpty()) {
+                if (executorService != null && interruptionService.isSoftInterruptionRequested(request.getCurrentRunId())) {
+                    // Dichotomies launched in parallel do not acknowledge soft interruptions, it is done once for all of them
+                    interruptionService.shouldRunBeInterruptedSoftly(request.getCurrentRunId());
                     multipleDichotomyResult.setInterrupted(true);
                     return multipleDichotomyResult;
                 }
+                if (!checkIfPrasCombinationHasImpactOnNetwork(additionalPrasToBeForced, crac, network)) {
+                    if (businessLogger.isInfoEnabled()) {
+                        logSummary(DICHOTOMY_COUNT + dichotomyCount,
+                            "Additional forced PRAs have no impact on the network",
+                            toString(CollectionUtils.union(flattenPrasIds(forcedPrasIds), additionalPrasToBeForced)));
+                    }
+                    counterPerLimitingElement++;
+                } else {
+                    double lastUnsecureItalianImport = dichotomyResultHelper.computeLowestUnsecureItalianImport(multipleDichotomyResult.getBestDichotomyResult(), crac, network);
+                    forcedPrasIds.add(additionalPrasToBeForced); // We add the new forced PRAs to the historical register of the forced PRAs
+
+                    // We launch a new dichotomy still based on initial network but with a higher starting index -- previous unsecure index.
+                    // As we already computed a reference TTC we tweak the index so that it doesn't go below the starting
+                    // index -- if so we can just consider the previous result.
+                    // We pass to the dichotomy all the forced PRAs we want to apply including manual forced PRAs
+                    DichotomyResult<DichotomyRaoResponse> nextDichotomyResult;
+                    if (executorService == null) {
+                        nextDichotomyResult = dichotomyRunner.runDichotomy(
+                            request,
+                            cseData,
+                            network,
+                            lastUnsecureItalianImport,
+                            lastUnsecureItalianImport,
+                            referenceExchanges,
+                            ntcsByEic,
+                            flattenPrasIds(forcedPrasIds));
+                    } else {
+                        // All the remaining combinations for the current limiting element are launched at once, from
+                        // the current best result, their results are then consumed one after the other by the selection
+                        // logic below. They are launched again as soon as the best result changes, so that each result
+                        // is the one the sequential run would get.
+                        List<Set<String>> nextCombinations = getNextPrasCombinations(automatedForcedPrasIds, limitingElement,
+                            counterPerLimitingElement, maximumDichotomiesNumber - dichotomyCount + 1);
+                        launchForcedPrasDichotomies(executorService, pendingDichotomies, nextCombinations,
+                            forcedPrasIds.subList(0, forcedPrasIds.size() - 1), request, cseData, network, crac,
+                            lastUnsecureItalianImport, referenceExchanges, ntcsByEic);
+                        Future<DichotomyResult<DichotomyRaoResponse>> dichotomyFuture = pendingDichotomies.remove(flattenPrasIds(forcedPrasIds));
+                        if (dichotomyFuture == null) {
+                            dichotomyFuture = submitForcedPrasDichotomy(executorService, flattenPrasIds(forcedPrasIds), request, cseData,
+                                network, lastUnsecureItalianImport, referenceExchanges, ntcsByEic);
+                        }
+                        nextDichotomyResult = awaitDichotomyResult(dichotomyFuture);
+                    }
 
-                if (nextDichotomyResult.hasValidStep()) {
-                    String newLimitingElement = dichotomyResultHelper.getLimitingElement(nextDichotomyResult, network);
-                    double previousLowestUnsecureItalianImport =
-                        dichotomyResultHelper.computeLowestUnsecureItalianImport(multipleDichotomyResult.getBestDichotomyResult());
-                    double newLowestUnsecureItalianImport = dichotomyResultHelper.computeLowestUnsecureItalianImport(nextDichotomyResult);
-
-                    limitingCause = TtcResult.limitingCauseToString(nextDichotomyResult.getLimitingCause());
-                    ttcString = String.valueOf(round(dichotomyResultHelper.computeHighestSecureItalianImport(nextDichotomyResult)));
-                    printablePrasIds = toString(getActivatedRangeActionInPreventive(crac, nextDichotomyResult));
-                    printableForcedPrasIds = toString(getForcedPrasIds(nextDichotomyResult));
-                    logSummary(DICHOTOMY_COUNT + dichotomyCount,
-                        ttcString,
-                        limitingCause, newLimitingElement,
-                        printablePrasIds, printableForcedPrasIds);
-
-                    if (previousLowestUnsecureItalianImport < newLowestUnsecureItalianImport) {
-                        // If result is improved we store this new result
+                    if (nextDichotomyResult.isRaoFailed()) {
+                        multipleDichotomyResult.setRaoFailed(true);
+                        return multipleDichotomyResult;
+                    }
+
+                    if (nextDichotomyResult.isInterrupted()) {
+                        if (executorService != null) {
+                            interruptionService.shouldRunBeInterruptedSoftly(request.getCurrentRunId());
+                        }
                         multipleDichotomyResult.addResult(nextDichotomyResult, flattenPrasIds(forcedPrasIds));
-                        businessLogger.info("New TTC '{}' is higher than previous TTC '{}'. Result will be kept", newLowestUnsecureItalianImport, previousLowestUnsecureItalianImport);
-                        if (limitingElement.equals(newLimitingElement)) {
-                            // If limiting element remains the same we remove the last tested combination and go to the next one
-                            businessLogger.info("The limiting element '{}' didn't change after the last dichotomy. Next RAs combination will be tried", limitingElement);
+                        multipleDichotomyResult.setInterrupted(true);
+                        return multipleDichotomyResult;
+                    }
+
+                    if (nextDichotomyResult.hasValidStep()) {
+                        String newLimitingElement = dichotomyResultHelper.getLimitingElement(nextDichotomyResult, crac, network);
+                        double previousLowestUnsecureItalianImport =
+                            dichotomyResultHelper.computeLowestUnsecureItalianImport(multipleDichotomyResult.getBestDichotomyResult(), crac, network);
+                        double newLowestUnsecureItalianImport = dichotomyResultHelper.computeLowestUnsecureItalianImport(nextDichotomyResult, crac, network);
+
+                        limitingCause = TtcResult.limitingCauseToString(nextDichotomyResult.getLimitingCause());
+                        ttcString = String.valueOf(round(dichotomyResultHelper.computeHighestSecureItalianImport(nextDichotomyResult, crac, network)));
+                        printablePrasIds = toString(getActivatedRangeActionInPreventive(crac, nextDichotomyResult));
+                        printableForcedPrasIds = toString(getForcedPrasIds(nextDichotomyResult));
+                        logSummary(DICHOTOMY_COUNT + dichotomyCount,
+                            ttcString,
+                            limitingCause, newLimitingElement,
+                            printablePrasIds, printableForcedPrasIds);
+
+                        if (previousLowestUnsecureItalianImport < newLowestUnsecureItalianImport) {
+                            // If result is improved we store this new result
+                            multipleDichotomyResult.addResult(nextDichotomyResult, flattenPrasIds(forcedPrasIds));
+                            businessLogger.info("New TTC '{}' is higher than previous TTC '{}'. Result will be kept", newLowestUnsecureItalianImport, previousLowestUnsecureItalianImport);
+                            // Pending dichotomies were launched from the previous best result
+                            cancelPendingDichotomies(pendingDichotomies);
+                            if (limitingElement.equals(newLimitingElement)) {
+                                // If limiting element remains the same we remove the last tested combination and go to the next one
+                                businessLogger.info("The limiting element '{}' didn't change after the last dichotomy. Next RAs combination will be tried", limitingElement);
+                                forcedPrasIds.remove(forcedPrasIds.size() - 1); // Remove from the historical forced PRAs to apply the last we tried.
+                                counterPerLimitingElement++;
+                            } else {
+                                // If not, we keep the current combination and follow the next ones according to the new limiting element
+                                businessLogger.info("The limiting element '{}' changed after the last dichotomy. New limiting element is '{}'", limitingElement, newLimitingElement);
+                                limitingElement = newLimitingElement;
+                                counterPerLimitingElement = 0;
+                            }
+                        } else {
+                            // If the result is not improved we don't store the result, keep the previous limiting element and goes to the next combination for this limiting element.
+                            // For that we don't even consider if the limiting element has changed or not, as the reference remains the previous case
+                            businessLogger.info("New TTC '{}' is lower or equal than previous TTC '{}'. Result will be ignored", newLowestUnsecureItalianImport, previousLowestUnsecureItalianImport);
                             forcedPrasIds.remove(forcedPrasIds.size() - 1); // Remove from the historical forced PRAs to apply the last we tried.
                             counterPerLimitingElement++;
-                        } else {
-                            // If not, we keep the current combination and follow the next ones according to the new limiting element
-                            businessLogger.info("The limiting element '{}' changed after the last dichotomy. New limiting element is '{}'", limitingElement, newLimitingElement);
-                            limitingElement = newLimitingElement;
-                            counterPerLimitingElement = 0;
                         }
                     } else {
-                        // If the result is not improved we don't store the result, keep the previous limiting element and goes to the next combination for this limiting element.
-                        // For that we don't even consider if the limiting element has changed or not, as the reference remains the previous case
-                        businessLogger.info("New TTC '{}' is lower or equal than previous TTC '{}'. Result will be ignored", newLowestUnsecureItalianImport, previousLowestUnsecureItalianImport);
+                        logSummary(DICHOTOMY_COUNT + dichotomyCount,
+                            TtcResult.limitingCauseToString(nextDichotomyResult.getLimitingCause()),
+                            toString(flattenPrasIds(forcedPrasIds)));
                         forcedPrasIds.remove(forcedPrasIds.size() - 1); // Remove from the historical forced PRAs to apply the last we tried.
                         counterPerLimitingElement++;
                     }
-                } else {
-                    logSummary(DICHOTOMY_COUNT + dichotomyCount,
-                        TtcResult.limitingCauseToString(nextDichotomyResult.getLimitingCause()),
-                        toString(flattenPrasIds(forcedPrasIds)));
-                    forcedPrasIds.remove(forcedPrasIds.size() - 1); // Remove from the historical forced PRAs to apply the last we tried.
-                    counterPerLimitingElement++;
                 }
+                additionalPrasToBeForced = getAdditionalPrasToBeForced(automatedForcedPrasIds, limitingElement, counterPerLimitingElement);
+                dichotomyCount++;
+            }
+        } finally {
+            if (executorService != null) {
+                cancelPendingDichotomies(pendingDichotomies);
+                executorService.shutdownNow();
             }
-            additionalPrasToBeForced = getAdditionalPrasToBeForced(automatedForcedPrasIds, limitingElement, counterPerLimitingElement);
-            dichotomyCount++;
         }
 
         String finalLimitingElement = "NONE";
@@ -202,8 +252,8 @@ public class MultipleDichotomyRunner {
         String finalLimitingCause = TtcResult.limitingCauseToString(multipleDichotomyResult.getBestDichotomyResult().getLimitingCause());
 
         if (multipleDichotomyResult.getBestDichotomyResult().hasValidStep()) {
-            finalLimitingElement = dichotomyResultHelper.getLimitingElement(multipleDichotomyResult.getBestDichotomyResult(), network);
-            finalTtcString = String.valueOf(round(dichotomyResultHelper.computeHighestSecureItalianImport(multipleDichotomyResult.getBestDichotomyResult())));
+            finalLimitingElement = dichotomyResultHelper.getLimitingElement(multipleDichotomyResult.getBestDichotomyResult(), crac, network);
+            finalTtcString = String.valueOf(round(dichotomyResultHelper.computeHighestSecureItalianImport(multipleDichotomyResult.getBestDichotomyResult(), crac, network)));
             finalPrintablePrasIds = toString(getActivatedRangeActionInPreventive(crac, multipleDichotomyResult.getBestDichotomyResult()));
             finalPrintableForcedPrasIds = toString(getForcedPrasIds(multipleDichotomyResult.getBestDichotomyResult()));
         }
@@ -248,6 +298,92 @@ public class MultipleDichotomyRunner {
         return new HashSet<>(forcedPrasForLimitingElement.get(counterPerLimitingElement));
     }
 
+    private static List<Set<String>> getNextPrasCombinations(Map<String, List<Set<String>>> automatedForcedPrasIds, String limitingElement, int counterPerLimitingElement, int remainingDichotomiesNumber) {
+        List<Set<String>> nextCombinations = new ArrayList<>();
+        for (int i = 0; i < remainingDichotomiesNumber; i++) {
+            Set<String> combination = getAdditionalPrasToBeForced(automatedForcedPrasIds, limitingElement, counterPerLimitingElement + i);
+            if (combination.isEmpty()) {
+                break;
+            }
+            nextCombinations.add(combination);
+        }
+        return nextCombinations;
+    }
+
+    private ExecutorService getForcedPrasExecutorService() {
+        int parallelism = Optional.ofNullable(processConfiguration.getForcedPrasDichotomyParallelism()).orElse(0);
+        return parallelism > 0 ? Executors.newFixedThreadPool(parallelism) : null;
+    }
+
+    private void launchForcedPrasDichotomies(ExecutorService executorService,
+                                             Map<Set<String>, Future<DichotomyResult<DichotomyRaoResponse>>> pendingDichotomies,
+                                             List<Set<String>> combinations,
+                                             List<Set<String>> previousForcedPrasIds,
+                                             CseRequest request,
+                                             CseData cseData,
+                                             Network network,
+                                             Crac crac,
+                                             double startingIndex,
+                                             Map<String, Double> referenceExchanges,
+                                             Map<String, Double> ntcsByEic) {
+        for (Set<String> combination : combinations) {
+            Set<String> combinationForcedPrasIds = new HashSet<>(flattenPrasIds(previousForcedPrasIds));
+            combinationForcedPrasIds.addAll(combination);
+            if (pendingDichotomies.containsKey(combinationForcedPrasIds) || !checkIfPrasCombinationHasImpactOnNetwork(combination, crac, network)) {
+                continue;
+            }
+            pendingDichotomies.put(combinationForcedPrasIds, submitForcedPrasDichotomy(executorService, combinationForcedPrasIds,
+                request, cseData, network, startingIndex, referenceExchanges, ntcsByEic));
+        }
+    }
+
+    private Future<DichotomyResult<DichotomyRaoResponse>> submitForcedPrasDichotomy(ExecutorService executorService,
+                                                                                   Set<String> forcedPrasIds,
+                                                                                   CseRequest request,
+                                                                                   CseData cseData,
+                                                                                   Network network,
+                                                                                   double startingIndex,
+                                                                                   Map<String, Double> referenceExchanges,
+                                                                                   Map<String, Double> ntcsByEic) {
+        // Each dichotomy works on its own copy of the network as variants cannot be handled concurrently
+        Network networkCopy = copyNetwork(network);
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        // A dichotomy whose result may be discarded must not acknowledge the soft interruption of the run, all of
+        // them stop while it is pending
+        InterruptionStrategy pendingSoftInterruption = interruptionService::isSoftInterruptionRequested;
+        return executorService.submit(() -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                return dichotomyRunner.runDichotomy(request, cseData, networkCopy, startingIndex, startingIndex,
+                    referenceExchanges, ntcsByEic, forcedPrasIds, pendingSoftInterruption);
+            } finally {
+                MDC.clear();
+            }
+        });
+    }
+
+    Network copyNetwork(Network network) {
+        return NetworkSerDe.copy(network);
+    }
+
+    private static DichotomyResult<DichotomyRaoResponse> awaitDichotomyResult(Future<DichotomyResult<DichotomyRaoResponse>> dichotomyFuture) {
+        try {
+            return dichotomyFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CseInternalException("Interrupted while waiting for forced PRAs dichotomy", e);
+        } catch (ExecutionException e) {
+            throw new CseInternalException("Forced PRAs dichotomy failed", e.getCause());
+        }
+    }
+
+    private static void cancelPendingDichotomies(Map<Set<String>, Future<DichotomyResult<DichotomyRaoResponse>>> pendingDichotomies) {
+        pendingDichotomies.values().forEach(dichotomyFuture -> dichotomyFuture.cancel(true));
+        pendingDichotomies.clear();
+    }
+
     private static boolean checkIfPrasCombinationHasImpactOnNetwork(Set<String> raToBeForced, Crac crac, Network network) {
         // If one elementary action of the network action has an impact on the network then the network action has an impact on the network
         // We don't check availability here as in any case it won't be tested against the proper level of exchanges
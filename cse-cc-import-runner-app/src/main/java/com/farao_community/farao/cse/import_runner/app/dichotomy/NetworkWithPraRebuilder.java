@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.dichotomy;
+
+import com.farao_community.farao.cse.import_runner.app.CseData;
+import com.farao_community.farao.cse.import_runner.app.configurations.LocalPraApplicationConfiguration;
+import com.farao_community.farao.cse.import_runner.app.services.FileImporter;
+import com.farao_community.farao.cse.network_processing.pra_application.PraApplier;
+import com.farao_community.farao.cse.runner.api.resource.CseRequest;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.openrao.data.crac.api.Crac;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rebuilds the network with preventive remedial actions of the highest valid step of the dichotomy from the network
+ * of the request: it is shifted to the index of the step with the shifter of the dichotomy, then the preventive
+ * remedial actions of its RAO result are applied. The forced PRAs of the step are not applied, as the network sent
+ * to the RAO does not contain them either. The rebuilt network is cached in {@link CseData} for the URL of the
+ * network uploaded by the RAO, which is then neither downloaded nor parsed.
+ * <p>
+ * The rebuild is only as faithful as the shift is reproducible, so it is opt-in and the network of the RAO stays
+ * the default. When the network cannot be rebuilt, or when it differs from the uploaded one in verification mode,
+ * the uploaded network is used as before.
+ */
+@Service
+public class NetworkWithPraRebuilder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkWithPraRebuilder.class);
+    private static final String NETWORK_WITH_PRA_VARIANT_ID = "local-network-with-pra";
+
+    private final NetworkShifterProvider networkShifterProvider;
+    private final FileImporter fileImporter;
+    private final LocalPraApplicationConfiguration localPraApplicationConfiguration;
+
+    public NetworkWithPraRebuilder(NetworkShifterProvider networkShifterProvider, FileImporter fileImporter, LocalPraApplicationConfiguration localPraApplicationConfiguration) {
+        this.networkShifterProvider = networkShifterProvider;
+        this.fileImporter = fileImporter;
+        this.localPraApplicationConfiguration = localPraApplicationConfiguration;
+    }
+
+    /**
+     * The network is rebuilt on a new working variant, copied from the variant the dichotomy started from. The
+     * network must not be used by the dichotomy anymore.
+     */
+    public void rebuildNetworkWithPra(CseRequest cseRequest,
+                                      CseData cseData,
+                                      Network network,
+                                      String dichotomyVariantId,
+                                      Crac crac,
+                                      DichotomyResult<DichotomyRaoResponse> dichotomyResult,
+                                      Map<String, Double> referenceExchanges,
+                                      Map<String, Double> ntcsByEic) {
+        DichotomyStepResult<DichotomyRaoResponse> highestValidStep = dichotomyResult.getHighestValidStep();
+        if (!localPraApplicationConfiguration.enabled() || highestValidStep.getRaoResult() == null) {
+            return;
+        }
+        String networkWithPraUrl = highestValidStep.getValidationData().getRaoResponse().getNetworkWithPraFileUrl();
+        VariantManager variantManager = network.getVariantManager();
+        try {
+            variantManager.cloneVariant(dichotomyVariantId, NETWORK_WITH_PRA_VARIANT_ID, true);
+            variantManager.setWorkingVariant(NETWORK_WITH_PRA_VARIANT_ID);
+            networkShifterProvider.get(cseRequest, cseData, network, referenceExchanges, ntcsByEic)
+                .shiftNetwork(dichotomyResult.getHighestValidStepIndex(), network);
+            PraApplier.applyPreventiveRemedialActions(network, crac, highestValidStep.getRaoResult());
+        } catch (GlskLimitationException | ShiftingException | RuntimeException e) {
+            LOGGER.warn("Network with PRAs could not be rebuilt locally, the one of the RAO is used: {}", e.getMessage());
+            variantManager.setWorkingVariant(dichotomyVariantId);
+            return;
+        }
+        if (localPraApplicationConfiguration.verify()) {
+            Network raoNetworkWithPra = fileImporter.importNetwork(networkWithPraUrl);
+            List<String> differences = PraApplier.findDifferences(raoNetworkWithPra, network);
+            if (!differences.isEmpty()) {
+                LOGGER.warn("Network with PRAs rebuilt locally differs from the one of the RAO, which is used instead: {}", differences);
+                cseData.getNetworkCache().put(networkWithPraUrl, raoNetworkWithPra);
+                return;
+            }
+            LOGGER.info("Network with PRAs rebuilt locally is consistent with the one of the RAO");
+        }
+        cseData.getNetworkCache().put(networkWithPraUrl, network);
+    }
+}
@@ -6,69 +6,69 @@
  */
 package com.farao_community.farao.cse.import_runner.app.dichotomy;
 
+import com.farao_community.farao.cse.data.CancellationToken;
 import com.farao_community.farao.cse.import_runner.app.services.FileExporter;
 import com.farao_community.farao.cse.import_runner.app.services.FileImporter;
 import com.farao_community.farao.cse.import_runner.app.services.ForcedPrasHandler;
-import com.farao_community.farao.cse.import_runner.app.util.FlowEvaluator;
-import com.farao_community.farao.cse.import_runner.app.util.MinioStorageHelper;
+import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
 import com.farao_community.farao.cse.runner.api.resource.CseRequest;
-import com.farao_community.farao.cse.runner.api.resource.ProcessType;
-import com.farao_community.farao.dichotomy.api.NetworkValidator;
 import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
 import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
 import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
 import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
 import com.farao_community.farao.dichotomy.api.utils.ContingenciesLoggerUtil;
-import com.farao_community.farao.minio_adapter.starter.GridcapaFileGroup;
 import com.farao_community.farao.rao_runner.api.resource.AbstractRaoResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoFailureResponse;
 import com.farao_community.farao.rao_runner.api.resource.RaoRequest;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
 import com.farao_community.farao.rao_runner.starter.RaoRunnerClient;
 import com.powsybl.iidm.network.Network;
-import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.data.crac.api.Crac;
-import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
-import com.powsybl.openrao.searchtreerao.commons.RaoUtil;
-import com.powsybl.openrao.searchtreerao.result.api.FlowResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
-import java.time.OffsetDateTime;
-import java.time.ZoneId;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 /**
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
  * @author Amira Kahya {@literal <amira.kahya at rte-france.com>}
  */
-public class RaoRunnerValidator implements NetworkValidator<DichotomyRaoResponse> {
+public class RaoRunnerValidator extends AbstractRaoValidator {
     private static final Logger LOGGER = LoggerFactory.getLogger(RaoRunnerValidator.class);
+    // RAO requests only wait for the RAO runner response
+    private static final ExecutorService RAO_REQUEST_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
 
-    private final Logger businessLogger;
-
-    private static final String UCTE_EXTENSION = "uct";
-    private static final String UCTE_FORMAT = "UCTE";
-    private static final String XIIDM_EXTENSION = "xiidm";
-    private final ProcessType processType;
-    private final String requestId;
-    private final String currentRunId;
-    private final OffsetDateTime processTargetDateTime;
-    private final String cracUrl;
     private final String raoParametersUrl;
     private final RaoRunnerClient raoRunnerClient;
-    private final FileExporter fileExporter;
-    private final FileImporter fileImporter;
-    private final ForcedPrasHandler forcedPrasHandler;
-    private final Set<String> forcedPrasIds;
-    private final boolean isImportEcProcess;
-    private int variantCounter = 0;
+    private final String raoRunId;
+    private final Consumer<String> raoStopper;
+
+    public RaoRunnerValidator(CseRequest cseRequest,
+                              String cracUrl,
+                              String raoParametersUrl,
+                              RaoRunnerClient raoRunnerClient,
+                              FileExporter fileExporter,
+                              FileImporter fileImporter,
+                              ForcedPrasHandler forcedPrasHandler,
+                              Set<String> forcedPrasIds,
+                              boolean isImportEcProcess,
+                              Logger businessLogger) {
+        this(cseRequest, cracUrl, null, raoParametersUrl, raoRunnerClient, fileExporter, fileImporter, forcedPrasHandler, forcedPrasIds, isImportEcProcess, true, new CancellationToken(), businessLogger);
+    }
 
     public RaoRunnerValidator(CseRequest cseRequest,
                               String cracUrl,
+                              Crac crac,
                               String raoParametersUrl,
                               RaoRunnerClient raoRunnerClient,
                               FileExporter fileExporter,
@@ -76,46 +76,67 @@ public class RaoRunnerValidator implements NetworkValidator<DichotomyRaoResponse
                               ForcedPrasHandler forcedPrasHandler,
                               Set<String> forcedPrasIds,
                               boolean isImportEcProcess,
+                              boolean exportStepUcte,
+                              CancellationToken cancellationToken,
                               Logger businessLogger) {
-        this.processType = cseRequest.getProcessType();
-        this.requestId = cseRequest.getId();
-        this.currentRunId = cseRequest.getCurrentRunId();
-        this.processTargetDateTime = cseRequest.getTargetProcessDateTime();
-        this.cracUrl = cracUrl;
+        this(cseRequest, cracUrl, crac, raoParametersUrl, raoRunnerClient, fileExporter, fileImporter, forcedPrasHandler, forcedPrasIds, isImportEcProcess, exportStepUcte, cancellationToken, businessLogger, cseRequest.getCurrentRunId(), null);
+    }
+
+    /**
+     * Validator whose RAOs are run under their own run ID in the RAO runner, so that they can be stopped on their
+     * own: the stopper is called with this ID when the RAO response is no longer awaited.
+     */
+    public RaoRunnerValidator(CseRequest cseRequest,
+                              String cracUrl,
+                              Crac crac,
+                              String raoParametersUrl,
+                              RaoRunnerClient raoRunnerClient,
+                              FileExporter fileExporter,
+                              FileImporter fileImporter,
+                              ForcedPrasHandler forcedPrasHandler,
+                              Set<String> forcedPrasIds,
+                              boolean isImportEcProcess,
+                              boolean exportStepUcte,
+                              CancellationToken cancellationToken,
+                              Logger businessLogger,
+                              String raoRunId,
+                              Consumer<String> raoStopper) {
+        super(cseRequest, cracUrl, crac, fileExporter, fileImporter, forcedPrasHandler, forcedPrasIds, isImportEcProcess, exportStepUcte, cancellationToken, businessLogger);
         this.raoParametersUrl = raoParametersUrl;
         this.raoRunnerClient = raoRunnerClient;
-        this.fileExporter = fileExporter;
-        this.fileImporter = fileImporter;
-        this.forcedPrasHandler = forcedPrasHandler;
-        this.forcedPrasIds = forcedPrasIds;
-        this.isImportEcProcess = isImportEcProcess;
-        this.businessLogger = businessLogger;
+        this.raoRunId = raoRunId;
+        this.raoStopper = raoStopper;
     }
 
     @Override
     public DichotomyStepResult<DichotomyRaoResponse> validateNetwork(Network network, DichotomyStepResult lastDichotomyStepResult) throws ValidationException, RaoInterruptionException, RaoFailureException {
+        checkRunIsNotCancelled();
         String baseDirPathForCurrentStep = generateBaseDirPathFromScaledNetwork(network);
         String scaledNetworkName = network.getNameOrId();
         String scaledNetworkInXiidmFormatName = scaledNetworkName + "." + XIIDM_EXTENSION;
         String networkPresignedUrl = fileExporter.saveNetworkInArtifact(network, baseDirPathForCurrentStep + scaledNetworkInXiidmFormatName, "", processTargetDateTime, processType, isImportEcProcess);
-        // coreso request to export to Minio the intermediate network in the  UCTE format
-        String scaledNetworkInUcteFormatName = scaledNetworkName + "." + UCTE_EXTENSION;
-        fileExporter.exportAndUploadNetwork(network, UCTE_FORMAT, GridcapaFileGroup.ARTIFACT, baseDirPathForCurrentStep + scaledNetworkInUcteFormatName, "", processTargetDateTime, processType, isImportEcProcess);
+        Future<AbstractRaoResponse> raoResponseFuture = null;
         try {
-            Crac crac = fileImporter.importCracFromJson(cracUrl, network);
-            List<String> appliedRemedialActionInPreviousStep = lastDichotomyStepResult != null && lastDichotomyStepResult.getRaoResult() != null ? lastDichotomyStepResult.getRaoResult().getActivatedNetworkActionsDuringState(crac.getPreventiveState())
-                    .stream().map(NetworkAction::getId).toList() : Collections.emptyList();
+            Crac crac = getCrac(network);
+            List<String> appliedRemedialActionInPreviousStep = getAppliedRemedialActionsInPreviousStep(crac, lastDichotomyStepResult);
             RaoRequest raoRequest = buildRaoRequest(networkPresignedUrl, baseDirPathForCurrentStep, appliedRemedialActionInPreviousStep);
             // We don't stop computation even if there are no applied RAs, because we cannot be sure in the case where
             // the RAs are applicable on constraint, that it won't be applicable later on in the dichotomy (higher index)
             // So if we throw validation exception for example when no RAs are applied index will go lower, and it will
             // downgrade dichotomy results. So it could represent extra unnecessary RAOs, but otherwise it would cause
             // high losses of TTC.
-            Set<String> appliedForcedPras = applyForcedPras(crac, network);
-
-            LOGGER.info("RAO request sent: {}", raoRequest);
-            AbstractRaoResponse abstractRaoResponse = raoRunnerClient.runRao(raoRequest);
-            LOGGER.info("RAO response received: {}", abstractRaoResponse);
+            // The RAO request is sent as soon as the network it reads is uploaded: the UCTE export of the step and
+            // forced PRAs application on the local network are done while the RAO runs, by this thread only
+            final Future<AbstractRaoResponse> sentRaoRequest = sendRaoRequest(raoRequest);
+            raoResponseFuture = sentRaoRequest;
+            Set<String> appliedForcedPras;
+            AbstractRaoResponse abstractRaoResponse;
+            // Hard interruption of the run stops waiting for the RAO response
+            try (CancellationToken.Registration ignored = cancellationToken.onCancel(() -> stopRao(sentRaoRequest))) {
+                exportNetworkInUcteFormat(network, baseDirPathForCurrentStep);
+                appliedForcedPras = applyForcedPras(crac, network);
+                abstractRaoResponse = awaitRaoResponse(sentRaoRequest);
+            }
             if (abstractRaoResponse.isRaoFailed()) {
                 RaoFailureResponse failureResponse = (RaoFailureResponse) abstractRaoResponse;
                 businessLogger.error("RAO computation failed: {}", failureResponse.getErrorMessage());
@@ -133,30 +154,58 @@ public class RaoRunnerValidator implements NetworkValidator<DichotomyRaoResponse
             DichotomyRaoResponse dichotomyRaoResponse = new DichotomyRaoResponse(raoResponse, appliedForcedPras);
             return DichotomyStepResult.fromNetworkValidationResult(raoResult, dichotomyRaoResponse);
         } catch (RuntimeException e) {
+            if (raoResponseFuture != null) {
+                raoResponseFuture.cancel(true);
+            }
             String errorMessage = "Exception occurred during validation. Nested exception: {}" + e.getMessage();
             LOGGER.error(errorMessage);
             throw new ValidationException("RAO run failed", e);
         }
     }
 
-    private Set<String> applyForcedPras(Crac crac, Network network) {
-        if (!forcedPrasIds.isEmpty()) {
-            Unit unit = RaoUtil.getFlowUnit(fileExporter.loadRaoParameters());
-            // It computes reference flows on the network to be able to evaluate PRAs availability
-            FlowResult flowResult = FlowEvaluator.evaluate(crac, network, unit);
+    private Future<AbstractRaoResponse> sendRaoRequest(RaoRequest raoRequest) {
+        final Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        return RAO_REQUEST_EXECUTOR.submit(() -> {
+            if (contextMap != null) {
+                MDC.setContextMap(contextMap);
+            }
+            LOGGER.info("RAO request sent: {}", raoRequest);
+            AbstractRaoResponse abstractRaoResponse = raoRunnerClient.runRao(raoRequest);
+            LOGGER.info("RAO response received: {}", abstractRaoResponse);
+            return abstractRaoResponse;
+        });
+    }
 
-            // We get only the RAs that have been actually applied
-            // Even if the set is empty we still do the computation, in worst case scenario the computation is useless
-            return forcedPrasHandler.forcePras(forcedPrasIds, network, crac, flowResult, fileExporter.loadRaoParameters());
-        } else {
-            return Collections.emptySet();
+    private AbstractRaoResponse awaitRaoResponse(Future<AbstractRaoResponse> raoResponseFuture) throws RaoInterruptionException {
+        try {
+            return raoResponseFuture.get();
+        } catch (CancellationException e) {
+            LOGGER.info("RAO response no longer awaited: run has been interrupted");
+            throw new RaoInterruptionException("Run has been interrupted");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopRao(raoResponseFuture);
+            throw new CseInternalException("Interrupted while waiting for RAO response", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CseInternalException("RAO request failed", e.getCause());
+        }
+    }
+
+    private void stopRao(Future<AbstractRaoResponse> raoResponseFuture) {
+        raoResponseFuture.cancel(true);
+        if (raoStopper != null) {
+            LOGGER.info("Stopping RAO {} in RAO runner", raoRunId);
+            raoStopper.accept(raoRunId);
         }
     }
 
     public RaoRequest buildRaoRequest(String networkPreSignedUrl, String baseDirPathForCurrentStep, List<String> appliedRemedialActionInPreviousStep) {
         RaoRequest.RaoRequestBuilder builder = new RaoRequest.RaoRequestBuilder()
                 .withId(requestId)
-                .withRunId(currentRunId)
+                .withRunId(raoRunId)
                 .withNetworkFileUrl(networkPreSignedUrl)
                 .withCracFileUrl(cracUrl)
                 .withResultsDestination(baseDirPathForCurrentStep);
@@ -174,10 +223,4 @@ public class RaoRunnerValidator implements NetworkValidator<DichotomyRaoResponse
     private String saveRaoParametersIfNeeded(String baseDirPathForCurrentStep, List<String> appliedRemedialActionInPreviousStep) {
         return fileExporter.saveRaoParameters(baseDirPathForCurrentStep, appliedRemedialActionInPreviousStep, processTargetDateTime, processType, isImportEcProcess);
     }
-
-    private String generateBaseDirPathFromScaledNetwork(Network network) {
-        String basePath = MinioStorageHelper.makeDestinationMinioPath(processTargetDateTime, processType, MinioStorageHelper.FileKind.ARTIFACTS, ZoneId.of(fileExporter.getZoneId()), isImportEcProcess);
-        String variantName = network.getVariantManager().getWorkingVariantId();
-        return String.format("%s/%s-%s/", basePath, ++variantCounter, variantName);
-    }
 }
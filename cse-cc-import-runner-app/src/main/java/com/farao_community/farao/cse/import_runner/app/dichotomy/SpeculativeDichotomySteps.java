@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.exceptions.GlskLimitationException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoInterruptionException;
+import com.farao_community.farao.dichotomy.api.exceptions.ShiftingException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.powsybl.iidm.network.Network;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Network shifter and validator decorator used by the dichotomy engine to evaluate speculatively, in parallel,
+ * the candidate indexes that may be requested after the step currently being validated (both branches of the
+ * bisection). Candidates are the indexes the index strategy of the engine chooses for each speculated outcome.
+ * When the engine then asks for one of these indexes, the already computed result is returned instead of running
+ * a new RAO, and speculations falling outside the updated search interval are cancelled.
+ * <p>
+ * Speculative steps are computed on independent copies of the initial network ("lanes"), each one owned by a
+ * single thread at a time, so that variants of the network handled by the engine are never modified concurrently.
+ * <p>
+ * The validation of a step depends on the result of the step validated before it, of which the preventive network
+ * actions are given to the RAO. Speculations are launched with the last known step result as predecessor, and are
+ * launched again with the result of each validated step whose preventive network actions differ: the next step
+ * requested by the engine is always validated with its actual predecessor, deeper candidates with the most recent
+ * one. A speculative result is only used when its predecessor leads to the same RAO inputs as the actual one. When
+ * forced PRAs have been applied on the lane network, the same ones are applied on the network of the engine.
+ * <p>
+ * How many steps are taken from speculative results, and how many speculations are launched again or discarded,
+ * is logged when the dichotomy ends.
+ */
+public class SpeculativeDichotomySteps implements NetworkShifter, NetworkValidator<DichotomyRaoResponse>, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpeculativeDichotomySteps.class);
+    private static final double INDEX_TOLERANCE = 1e-3;
+    private static final String SPECULATIVE_VARIANT_PREFIX = "speculative-step-";
+    private static final int MAX_EXPLORED_INTERVALS = 64;
+
+    private final NetworkShifter networkShifter;
+    private final NetworkValidator<DichotomyRaoResponse> networkValidator;
+    private final SpeculationContext speculationContext;
+    private final IndexStrategy<DichotomyRaoResponse> indexStrategy;
+    private final BlockingQueue<Lane> lanes;
+    private final int parallelism;
+    private final ExecutorService executorService;
+    private final Map<Double, Speculation> speculations = new HashMap<>();
+    private final double minValue;
+    private final double maxValue;
+    private final double precision;
+
+    private double currentStepValue = Double.NaN;
+    private double highestValidValue = Double.NaN;
+    private double lowestInvalidValue = Double.NaN;
+    private int validatedSteps;
+    private int speculativeResultsUsed;
+    private int relaunchedSpeculations;
+    private int discardedSpeculations;
+
+    public SpeculativeDichotomySteps(NetworkShifter networkShifter,
+                                     NetworkValidator<DichotomyRaoResponse> networkValidator,
+                                     SpeculationContext speculationContext,
+                                     IndexStrategy<DichotomyRaoResponse> indexStrategy,
+                                     List<Network> laneNetworks,
+                                     Function<Network, NetworkShifter> laneShifterProvider,
+                                     double minValue,
+                                     double maxValue,
+                                     double precision) {
+        this.networkShifter = networkShifter;
+        this.networkValidator = networkValidator;
+        this.speculationContext = speculationContext;
+        this.indexStrategy = indexStrategy;
+        this.parallelism = laneNetworks.size();
+        this.lanes = new LinkedBlockingQueue<>();
+        laneNetworks.forEach(laneNetwork -> lanes.add(new Lane(laneNetwork, laneShifterProvider.apply(laneNetwork))));
+        this.executorService = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.precision = precision;
+    }
+
+    @Override
+    public void shiftNetwork(double stepValue, Network network) throws GlskLimitationException, ShiftingException {
+        currentStepValue = stepValue;
+        try {
+            networkShifter.shiftNetwork(stepValue, network);
+        } catch (GlskLimitationException | ShiftingException e) {
+            // The engine will consider this step as invalid
+            updateInterval(stepValue, false);
+            throw e;
+        }
+    }
+
+    @Override
+    public DichotomyStepResult<DichotomyRaoResponse> validateNetwork(Network network, DichotomyStepResult lastDichotomyStepResult) throws ValidationException, RaoInterruptionException, RaoFailureException {
+        final double stepValue = currentStepValue;
+        final Speculation speculation = removeSpeculation(stepValue);
+        // No more steps will be requested by the engine once it has handled a soft interruption
+        final boolean isSpeculating = !speculationContext.isSoftInterruptionRequested();
+        if (isSpeculating) {
+            launchSpeculations(stepValue, lastDichotomyStepResult);
+        } else {
+            cancelSpeculations();
+        }
+
+        DichotomyStepResult<DichotomyRaoResponse> stepResult = null;
+        if (speculation != null) {
+            if (Objects.equals(speculation.predecessorSignature(), speculationContext.getPredecessorSignature(lastDichotomyStepResult))) {
+                LOGGER.info("Using speculative result for dichotomy index {}", stepValue);
+                stepResult = awaitSpeculation(speculation.future(), stepValue);
+            } else {
+                LOGGER.info("Speculative validation for dichotomy index {} was run with other remedial actions of previous step, it will be run again", stepValue);
+                cancel(speculation);
+            }
+        }
+        if (stepResult != null) {
+            speculativeResultsUsed++;
+            applyForcedPras(network, stepResult);
+        } else {
+            stepResult = networkValidator.validateNetwork(network, lastDichotomyStepResult);
+        }
+        validatedSteps++;
+        updateInterval(stepValue, stepResult.isValid());
+        if (isSpeculating) {
+            relaunchSpeculations(stepResult);
+        }
+        return stepResult;
+    }
+
+    @Override
+    public void close() {
+        cancelSpeculations();
+        executorService.shutdownNow();
+        LOGGER.info("Speculative dichotomy: {} of {} steps taken from speculative results, {} speculative validations launched again with the result of previous step, {} discarded",
+            speculativeResultsUsed, validatedSteps, relaunchedSpeculations, discardedSpeculations);
+    }
+
+    List<Double> getSpeculativeStepValues() {
+        return new ArrayList<>(speculations.keySet());
+    }
+
+    private void launchSpeculations(double stepValue, DichotomyStepResult lastDichotomyStepResult) {
+        for (double candidate : computeCandidates(stepValue, parallelism - speculations.size())) {
+            LOGGER.info("Launching speculative validation for dichotomy index {}", candidate);
+            speculations.put(candidate, submitSpeculation(candidate, lastDichotomyStepResult));
+        }
+    }
+
+    /**
+     * Launches again, with the result of the step that has just been validated as predecessor, the speculations
+     * launched with a predecessor whose preventive network actions differ from the ones of this step.
+     */
+    private void relaunchSpeculations(DichotomyStepResult<DichotomyRaoResponse> stepResult) {
+        final Object predecessorSignature = speculationContext.getPredecessorSignature(stepResult);
+        speculations.replaceAll((candidate, speculation) -> {
+            if (Objects.equals(speculation.predecessorSignature(), predecessorSignature)) {
+                return speculation;
+            }
+            LOGGER.info("Launching again speculative validation for dichotomy index {} with remedial actions of previous step", candidate);
+            cancel(speculation);
+            relaunchedSpeculations++;
+            return submitSpeculation(candidate, stepResult);
+        });
+    }
+
+    private Speculation submitSpeculation(double candidate, DichotomyStepResult predecessor) {
+        final Map<String, String> mdc = MDC.getCopyOfContextMap();
+        final NetworkValidator<DichotomyRaoResponse> speculativeValidator = speculationContext.newSpeculativeValidator();
+        return new Speculation(
+            executorService.submit(() -> runOnLane(candidate, speculativeValidator, predecessor, mdc)),
+            speculationContext.getPredecessorSignature(predecessor));
+    }
+
+    private DichotomyStepResult<DichotomyRaoResponse> runOnLane(double stepValue,
+                                                                NetworkValidator<DichotomyRaoResponse> speculativeValidator,
+                                                                DichotomyStepResult lastDichotomyStepResult,
+                                                                Map<String, String> mdc) throws Exception {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        final Lane lane = lanes.take();
+        final Network laneNetwork = lane.network;
+        final String laneInitialVariantId = laneNetwork.getVariantManager().getWorkingVariantId();
+        final String variantId = SPECULATIVE_VARIANT_PREFIX + (int) stepValue;
+        try {
+            laneNetwork.getVariantManager().cloneVariant(laneInitialVariantId, variantId, true);
+            laneNetwork.getVariantManager().setWorkingVariant(variantId);
+            lane.networkShifter.shiftNetwork(stepValue, laneNetwork);
+            return speculativeValidator.validateNetwork(laneNetwork, lastDichotomyStepResult);
+        } finally {
+            laneNetwork.getVariantManager().setWorkingVariant(laneInitialVariantId);
+            laneNetwork.getVariantManager().removeVariant(variantId);
+            lanes.add(lane);
+            MDC.clear();
+        }
+    }
+
+    private void applyForcedPras(Network network, DichotomyStepResult<DichotomyRaoResponse> stepResult) {
+        final DichotomyRaoResponse validationData = stepResult.getValidationData();
+        if (validationData != null && validationData.getForcedPrasIds() != null && !validationData.getForcedPrasIds().isEmpty()) {
+            speculationContext.applyForcedPras(network, validationData.getForcedPrasIds());
+        }
+    }
+
+    private DichotomyStepResult<DichotomyRaoResponse> awaitSpeculation(Future<DichotomyStepResult<DichotomyRaoResponse>> speculation, double stepValue) throws ValidationException, RaoInterruptionException, RaoFailureException {
+        try {
+            return speculation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValidationException("Interrupted while waiting for speculative validation", e);
+        } catch (CancellationException e) {
+            return null;
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ValidationException validationException) {
+                throw validationException;
+            } else if (cause instanceof RaoInterruptionException raoInterruptionException) {
+                throw raoInterruptionException;
+            } else if (cause instanceof RaoFailureException raoFailureException) {
+                throw raoFailureException;
+            }
+            // Shifting issues on a lane are not reliable enough to conclude, the step is validated again on the main network
+            LOGGER.warn("Speculative validation for dichotomy index {} failed, it will be run again: {}", stepValue, cause.getMessage());
+            return null;
+        }
+    }
+
+    private Speculation removeSpeculation(double stepValue) {
+        return speculations.keySet().stream()
+            .filter(value -> Math.abs(value - stepValue) < INDEX_TOLERANCE)
+            .findFirst()
+            .map(speculations::remove)
+            .orElse(null);
+    }
+
+    private void updateInterval(double stepValue, boolean isValid) {
+        if (isValid && (Double.isNaN(highestValidValue) || stepValue > highestValidValue)) {
+            highestValidValue = stepValue;
+        } else if (!isValid && (Double.isNaN(lowestInvalidValue) || stepValue < lowestInvalidValue)) {
+            lowestInvalidValue = stepValue;
+        }
+        // Losing branches of the bisection will never be requested, their RAOs can be stopped
+        speculations.entrySet().removeIf(entry -> {
+            boolean isOutsideInterval = !isInsideInterval(entry.getKey(), highestValidValue, lowestInvalidValue);
+            if (isOutsideInterval) {
+                LOGGER.info("Discarding speculative validation for dichotomy index {}", entry.getKey());
+                cancel(entry.getValue());
+                discardedSpeculations++;
+            }
+            return isOutsideInterval;
+        });
+    }
+
+    private void cancelSpeculations() {
+        speculations.values().forEach(SpeculativeDichotomySteps::cancel);
+        speculations.clear();
+    }
+
+    /**
+     * Interrupts the lane thread of the speculation: the validator stops waiting for its RAO and stops it.
+     */
+    private static void cancel(Speculation speculation) {
+        speculation.future().cancel(true);
+    }
+
+    /**
+     * Explores, breadth-first, the possible outcomes of the step being validated and of the following ones, and
+     * returns the indexes that the index strategy of the engine would request next, up to the given budget.
+     */
+    List<Double> computeCandidates(double stepValue, int budget) {
+        final List<Double> candidates = new ArrayList<>();
+        final Deque<SpeculatedIndex> speculatedIndexes = new ArrayDeque<>();
+        speculatedIndexes.add(new SpeculatedIndex(minValue, maxValue, precision, stepValue, lowestInvalidValue));
+        speculatedIndexes.add(new SpeculatedIndex(minValue, maxValue, precision, highestValidValue, stepValue));
+        int exploredIntervals = 0;
+        while (!speculatedIndexes.isEmpty() && candidates.size() < budget && exploredIntervals++ < MAX_EXPLORED_INTERVALS) {
+            final SpeculatedIndex speculatedIndex = speculatedIndexes.poll();
+            if (indexStrategy.precisionReached(speculatedIndex)) {
+                continue;
+            }
+            final double candidate = indexStrategy.nextValue(speculatedIndex);
+            if (!isAlreadyKnown(candidate, stepValue, candidates)) {
+                candidates.add(candidate);
+            }
+            speculatedIndexes.add(new SpeculatedIndex(minValue, maxValue, precision, candidate, speculatedIndex.lowestInvalidValue));
+            speculatedIndexes.add(new SpeculatedIndex(minValue, maxValue, precision, speculatedIndex.highestValidValue, candidate));
+        }
+        return candidates;
+    }
+
+    private boolean isAlreadyKnown(double candidate, double stepValue, List<Double> candidates) {
+        return Math.abs(candidate - stepValue) < INDEX_TOLERANCE
+            || candidates.stream().anyMatch(value -> Math.abs(value - candidate) < INDEX_TOLERANCE)
+            || speculations.keySet().stream().anyMatch(value -> Math.abs(value - candidate) < INDEX_TOLERANCE);
+    }
+
+    private static boolean isInsideInterval(double value, double highestValid, double lowestInvalid) {
+        return (Double.isNaN(highestValid) || value > highestValid + INDEX_TOLERANCE)
+            && (Double.isNaN(lowestInvalid) || value < lowestInvalid - INDEX_TOLERANCE);
+    }
+
+    private record Lane(Network network, NetworkShifter networkShifter) {
+    }
+
+    /**
+     * Index of the dichotomy as it would be after the speculated outcomes of some steps, only known by its highest
+     * valid and lowest invalid step values, from which index strategies choose the next step.
+     */
+    private static final class SpeculatedIndex extends Index<DichotomyRaoResponse> {
+        private final double highestValidValue;
+        private final double lowestInvalidValue;
+
+        private SpeculatedIndex(double minValue, double maxValue, double precision, double highestValidValue, double lowestInvalidValue) {
+            super(minValue, maxValue, precision);
+            this.highestValidValue = highestValidValue;
+            this.lowestInvalidValue = lowestInvalidValue;
+        }
+
+        @Override
+        public Pair<Double, DichotomyStepResult<DichotomyRaoResponse>> higherValidStep() {
+            return speculatedStep(highestValidValue);
+        }
+
+        @Override
+        public Pair<Double, DichotomyStepResult<DichotomyRaoResponse>> lowerInvalidStep() {
+            return speculatedStep(lowestInvalidValue);
+        }
+
+        private static Pair<Double, DichotomyStepResult<DichotomyRaoResponse>> speculatedStep(double stepValue) {
+            return Double.isNaN(stepValue) ? null : Pair.of(stepValue, null);
+        }
+    }
+
+    private record Speculation(Future<DichotomyStepResult<DichotomyRaoResponse>> future, Object predecessorSignature) {
+    }
+
+    /**
+     * What the speculative validation of steps needs from the dichotomy it runs for.
+     */
+    public interface SpeculationContext {
+        /**
+         * Validator of a single speculative step, stopping its RAO when the thread waiting for it is interrupted.
+         */
+        NetworkValidator<DichotomyRaoResponse> newSpeculativeValidator();
+
+        /**
+         * Part of the result of a previous step that the validation of the next one depends on.
+         */
+        Object getPredecessorSignature(DichotomyStepResult<?> predecessor);
+
+        void applyForcedPras(Network network, Set<String> forcedPrasIds);
+
+        boolean isSoftInterruptionRequested();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.cse.import_runner.app.services;
+
+import com.farao_community.farao.cse.import_runner.app.configurations.ArtifactUploadConfiguration;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the artifact uploads of each request with a thread pool shared by all requests. The pool is bounded
+ * and applies back-pressure on the requests: when all threads are busy and the queue is full, uploads are
+ * performed by the submitting thread.
+ */
+@Service
+public class ArtifactUploadService {
+    private final ThreadPoolExecutor uploadExecutor;
+
+    public ArtifactUploadService(ArtifactUploadConfiguration artifactUploadConfiguration) {
+        if (artifactUploadConfiguration.enabled()) {
+            final AtomicInteger threadCounter = new AtomicInteger();
+            this.uploadExecutor = new ThreadPoolExecutor(
+                artifactUploadConfiguration.threads(),
+                artifactUploadConfiguration.threads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(artifactUploadConfiguration.queueCapacity()),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "artifact-upload-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        } else {
+            this.uploadExecutor = null;
+        }
+    }
+
+    public ArtifactUploads newArtifactUploads() {
+        return new ArtifactUploads(uploadExecutor);
+    }
+}
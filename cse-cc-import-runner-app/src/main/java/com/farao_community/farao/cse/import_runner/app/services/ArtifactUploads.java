@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.cse.import_runner.app.services;
+
+import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+/**
+ * Uploads of the artifacts of a single request. Uploads are performed in the background so that they overlap with
+ * the computation, and are tracked so that the request can wait for the artifacts the computation depends on
+ * before it needs them, and for all of its artifacts before sending its response.
+ * <p>
+ * Networks are not uploaded through this class: they keep being modified by the computation and are streamed to
+ * MinIO while exported, so their uploads are performed synchronously.
+ * <p>
+ * Without executor, uploads are performed synchronously when submitted.
+ */
+public class ArtifactUploads {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactUploads.class);
+
+    private final Executor uploadExecutor;
+    private final Queue<PendingUpload> pendingUploads = new ConcurrentLinkedQueue<>();
+
+    ArtifactUploads(Executor uploadExecutor) {
+        this.uploadExecutor = uploadExecutor;
+    }
+
+    public boolean isAsynchronous() {
+        return uploadExecutor != null;
+    }
+
+    /**
+     * Submits the upload of an artifact. Uploads whose artifact is read by the computation are waited for by
+     * {@link #awaitRequiredUploads()}.
+     */
+    public void submit(String artifactPath, boolean requiredByComputation, Runnable upload) {
+        if (!isAsynchronous()) {
+            upload.run();
+            return;
+        }
+        final Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        final CompletableFuture<Void> uploadFuture = CompletableFuture.runAsync(() -> {
+            if (contextMap != null) {
+                MDC.setContextMap(contextMap);
+            }
+            try {
+                upload.run();
+            } finally {
+                MDC.clear();
+            }
+        }, uploadExecutor);
+        pendingUploads.add(new PendingUpload(artifactPath, requiredByComputation, uploadFuture));
+    }
+
+    /**
+     * Cancels the uploads that have not started yet, when the request is interrupted. Cancelled uploads are not
+     * reported as failed when awaited.
+     */
+    public void cancelPendingUploads() {
+        pendingUploads.forEach(pendingUpload -> pendingUpload.uploadFuture().cancel(false));
+    }
+
+    public void awaitRequiredUploads() {
+        await(PendingUpload::requiredByComputation);
+    }
+
+    public void awaitAllUploads() {
+        await(pendingUpload -> true);
+    }
+
+    /**
+     * Cancels the uploads that have not started yet and waits for the running ones, so that no upload of the
+     * request outlives it when it fails. Failed uploads are only logged, not to hide the failure of the request.
+     */
+    public void cancelAndAwaitUploads() {
+        cancelPendingUploads();
+        try {
+            awaitAllUploads();
+        } catch (CseInternalException e) {
+            LOGGER.warn("Uploads of a failed request did not complete: {}", e.getMessage());
+        }
+    }
+
+    private void await(Predicate<PendingUpload> uploadFilter) {
+        final List<String> failedArtifactPaths = new ArrayList<>();
+        final Iterator<PendingUpload> pendingUploadIterator = pendingUploads.iterator();
+        while (pendingUploadIterator.hasNext()) {
+            final PendingUpload pendingUpload = pendingUploadIterator.next();
+            if (uploadFilter.test(pendingUpload)) {
+                try {
+                    pendingUpload.uploadFuture().join();
+                } catch (CancellationException e) {
+                    LOGGER.info("Upload of artifact {} cancelled", pendingUpload.artifactPath());
+                } catch (CompletionException e) {
+                    LOGGER.error("Upload of artifact {} failed", pendingUpload.artifactPath(), e);
+                    failedArtifactPaths.add(pendingUpload.artifactPath());
+                }
+                pendingUploadIterator.remove();
+            }
+        }
+        if (!failedArtifactPaths.isEmpty()) {
+            throw new CseInternalException(String.format("Upload of artifacts %s failed", failedArtifactPaths));
+        }
+    }
+
+    private record PendingUpload(String artifactPath, boolean requiredByComputation, CompletableFuture<Void> uploadFuture) {
+    }
+}
@@ -8,15 +8,18 @@
 package com.farao_community.farao.cse.import_runner.app.services;
 
 import com.farao_community.farao.cse.computation.LoadflowComputationException;
+import com.farao_community.farao.cse.data.CancellationToken;
 import com.farao_community.farao.cse.data.ttc_res.TtcResult;
 import com.farao_community.farao.cse.import_runner.app.CseData;
 import com.farao_community.farao.cse.import_runner.app.configurations.PiSaConfiguration;
 import com.farao_community.farao.cse.import_runner.app.configurations.ProcessConfiguration;
-import com.farao_community.farao.cse.import_runner.app.configurations.UrlConfiguration;
 import com.farao_community.farao.cse.import_runner.app.dichotomy.DichotomyRaoResponse;
+import com.farao_community.farao.cse.import_runner.app.dichotomy.InProcessStepArtifacts;
+import com.farao_community.farao.cse.import_runner.app.dichotomy.LinearTtcEstimator;
 import com.farao_community.farao.cse.import_runner.app.dichotomy.MultipleDichotomyResult;
 import com.farao_community.farao.cse.import_runner.app.dichotomy.MultipleDichotomyRunner;
 import com.farao_community.farao.cse.import_runner.app.dichotomy.NetworkShifterUtil;
+import com.farao_community.farao.cse.import_runner.app.dichotomy.NetworkWithPraRebuilder;
 import com.farao_community.farao.cse.import_runner.app.util.FileUtil;
 import com.farao_community.farao.cse.network_processing.CracCreationParametersService;
 import com.farao_community.farao.cse.network_processing.busbar_change.BusBarChangePostProcessor;
@@ -34,17 +37,16 @@ import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
 import com.powsybl.openrao.data.crac.io.cse.CseCracCreationContext;
 import com.powsybl.openrao.data.crac.io.cse.parameters.BusBarChangeSwitches;
 import com.powsybl.openrao.data.crac.io.cse.xsd.CRACDocumentType;
+import org.apache.commons.io.FilenameUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.Set;
 
 /**
@@ -63,10 +65,13 @@ public class CseRunner {
     private final ProcessConfiguration processConfiguration;
     private final Logger businessLogger;
     private final InitialShiftService initialShiftService;
-    private final RestTemplateBuilder restTemplateBuilder;
-    private final UrlConfiguration urlConfiguration;
+    private final InterruptionService interruptionService;
     private static final String CRAC_CREATION_PARAMETERS_JSON = "/crac/cseCracCreationParameters.json";
     private final PiSaConfiguration piSaConfiguration;
+    private final ArtifactUploadService artifactUploadService;
+    private final IndexHintService indexHintService;
+    private final LinearTtcEstimator linearTtcEstimator;
+    private final NetworkWithPraRebuilder networkWithPraRebuilder;
 
     public CseRunner(final FileImporter fileImporter,
                      final FileExporter fileExporter,
@@ -77,9 +82,12 @@ public class CseRunner {
                      final ProcessConfiguration processConfiguration,
                      final Logger businessLogger,
                      final InitialShiftService initialShiftService,
-                     final RestTemplateBuilder restTemplateBuilder,
-                     final UrlConfiguration urlConfiguration,
-                     final PiSaConfiguration piSaConfiguration) {
+                     final InterruptionService interruptionService,
+                     final PiSaConfiguration piSaConfiguration,
+                     final ArtifactUploadService artifactUploadService,
+                     final IndexHintService indexHintService,
+                     final LinearTtcEstimator linearTtcEstimator,
+                     final NetworkWithPraRebuilder networkWithPraRebuilder) {
         this.fileImporter = fileImporter;
         this.fileExporter = fileExporter;
         this.multipleDichotomyRunner = multipleDichotomyRunner;
@@ -89,19 +97,32 @@ public class CseRunner {
         this.processConfiguration = processConfiguration;
         this.businessLogger = businessLogger;
         this.initialShiftService = initialShiftService;
-        this.restTemplateBuilder = restTemplateBuilder;
-        this.urlConfiguration = urlConfiguration;
+        this.interruptionService = interruptionService;
         this.piSaConfiguration = piSaConfiguration;
+        this.artifactUploadService = artifactUploadService;
+        this.indexHintService = indexHintService;
+        this.linearTtcEstimator = linearTtcEstimator;
+        this.networkWithPraRebuilder = networkWithPraRebuilder;
     }
 
     public CseResponse run(CseRequest cseRequest) throws IOException {
+        final CancellationToken cancellationToken = interruptionService.registerRun(cseRequest.getCurrentRunId());
+        final ArtifactUploads artifactUploads = artifactUploadService.newArtifactUploads();
+        cancellationToken.onCancel(artifactUploads::cancelPendingUploads);
+        try {
+            return run(cseRequest, cancellationToken, artifactUploads);
+        } finally {
+            artifactUploads.cancelAndAwaitUploads();
+            interruptionService.unregisterRun(cseRequest.getCurrentRunId());
+        }
+    }
+
+    private CseResponse run(CseRequest cseRequest, CancellationToken cancellationToken, ArtifactUploads artifactUploads) throws IOException {
         try {
             String firstShiftNetworkName = fileExporter.getFirstShiftNetworkName(cseRequest.getTargetProcessDateTime(), FileUtil.getFilenameFromUrl(cseRequest.getCgmUrl()), cseRequest.getProcessType());
 
-            if (checkIsInterrupted(cseRequest)) {
-                businessLogger.warn("Computation has been interrupted for timestamp {}", cseRequest.getTargetProcessDateTime());
-                LOGGER.info("Response sent for timestamp {} : run has been interrupted", cseRequest.getTargetProcessDateTime());
-                return new CseResponse(cseRequest.getId(), "", "", true, false);
+            if (cancellationToken.isCancelled()) {
+                return getInterruptedResponse(cseRequest);
             }
 
             final boolean importEcProcess = cseRequest.isImportEcProcess();
@@ -122,27 +143,35 @@ public class CseRunner {
 
             // Saving pre-processed network in IIDM and CRAC in JSON format
             cseData.setPreProcesedNetworkUrl(fileExporter.saveNetworkInArtifact(network, cseRequest.getTargetProcessDateTime(), "", cseRequest.getProcessType(), importEcProcess));
-            cseData.setJsonCracUrl(fileExporter.saveCracInJsonFormat(crac, cseRequest.getTargetProcessDateTime(), cseRequest.getProcessType(), importEcProcess));
+            cseData.setCrac(crac);
+            cseData.setJsonCracUrl(fileExporter.saveCracInJsonFormat(crac, cseRequest.getTargetProcessDateTime(), cseRequest.getProcessType(), importEcProcess, artifactUploads));
 
             Map<String, Double> ntcsByEic = cseRequest.getProcessType().equals(ProcessType.IDCC) ?
                     cseData.getNtc2().getExchanges() :
                     NetworkShifterUtil.convertMapByCountryToMapByEic(cseData.getNtcPerCountry());
 
-            double initialIndexValue = Optional.ofNullable(cseRequest.getInitialDichotomyIndex()).orElse(ntcsByEic.values().stream().mapToDouble(Double::doubleValue).sum());
             String initialVariantId = network.getVariantManager().getWorkingVariantId();
             // input cgm corresponds to vulcanus file but we want to start calculation from ntc values
             initialShiftService.performInitialShiftFromVulcanusLevelToNtcLevel(network, cseData, cseRequest, cseData.getCseReferenceExchanges().getExchanges(), ntcsByEic);
             if (cseRequest.getProcessType().equals(ProcessType.IDCC)) {
                 network.getVariantManager().setWorkingVariant(initialVariantId);
             }
+            Map<String, Double> referenceExchanges = NetworkShifterUtil.getReferenceExchanges(cseData);
+            double initialIndexValue = getInitialIndexValue(cseRequest, cseData, network, referenceExchanges, ntcsByEic);
 
+            // JSON CRAC is read by the RAO
+            artifactUploads.awaitRequiredUploads();
+            if (cancellationToken.isCancelled()) {
+                return getInterruptedResponse(cseRequest);
+            }
+            String dichotomyVariantId = network.getVariantManager().getWorkingVariantId();
             MultipleDichotomyResult<DichotomyRaoResponse> multipleDichotomyResult = multipleDichotomyRunner.runMultipleDichotomy(
                     cseRequest,
                     cseData,
                     network,
                     crac,
                     initialIndexValue,
-                    NetworkShifterUtil.getReferenceExchanges(cseData),
+                    referenceExchanges,
                     ntcsByEic);
 
             String ttcResultUrl;
@@ -158,14 +187,22 @@ public class CseRunner {
                     && dichotomyResult.getHighestValidStep().getValidationData() != null;
             if (isValidDichotomy) {
                 String finalCgmPath = fileExporter.getFinalNetworkFilePath(cseRequest.getTargetProcessDateTime(), cseRequest.getProcessType(), FileUtil.getFilenameFromUrl(cseRequest.getCgmUrl()), importEcProcess);
-                Network finalNetwork = fileImporter.importNetwork(dichotomyResult.getHighestValidStep().getValidationData()
+                indexHintService.recordHighestSecureIndex(cseRequest.getProcessType(), cseRequest.isImportEcProcess(), cseRequest.getTargetProcessDateTime(), dichotomyResult.getHighestValidStepIndex());
+                InProcessStepArtifacts inProcessStepArtifacts = dichotomyResult.getHighestValidStep().getValidationData().getInProcessStepArtifacts();
+                if (inProcessStepArtifacts != null) {
+                    // Artifacts of steps validated in process are only saved for the step kept as result
+                    inProcessStepArtifacts.save(cseData.getNetworkCache());
+                }
+                networkWithPraRebuilder.rebuildNetworkWithPra(cseRequest, cseData, network, dichotomyVariantId, crac, dichotomyResult, referenceExchanges, ntcsByEic);
+                // TTC result is computed first from the network with PRAs, before its topology is modified for the final CGM
+                ttcResultUrl = ttcResultService.saveTtcResult(cseRequest, cseData, cracImportData.cseCracCreationContext,
+                        dichotomyResult.getHighestValidStep().getValidationData(), dichotomyResult.getLimitingCause(),
+                        firstShiftNetworkName, FilenameUtils.getName(finalCgmPath), preprocessedPsts, preprocessedPisaLinks);
+                Network finalNetwork = cseData.getNetworkCache().take(dichotomyResult.getHighestValidStep().getValidationData()
                         .getRaoResponse().getNetworkWithPraFileUrl());
                 BusBarChangePostProcessor.process(finalNetwork, cracImportData.busBarChangeSwitchesSet);
 
                 finalCgmUrl = fileExporter.exportAndUploadNetwork(finalNetwork, "UCTE", GridcapaFileGroup.OUTPUT, finalCgmPath, processConfiguration.getFinalCgm(), cseRequest.getTargetProcessDateTime(), cseRequest.getProcessType(), importEcProcess);
-                ttcResultUrl = ttcResultService.saveTtcResult(cseRequest, cseData, cracImportData.cseCracCreationContext,
-                        dichotomyResult.getHighestValidStep().getValidationData(), dichotomyResult.getLimitingCause(),
-                        firstShiftNetworkName, FileUtil.getFilenameFromUrl(finalCgmUrl), preprocessedPsts, preprocessedPisaLinks);
             } else if (isRaoFailed) {
                 TtcResult.FailedProcessData.FailedProcessReason failedProcessReason = TtcResult.FailedProcessData.FailedProcessReason.IT_ISSUE;
                 ttcResultUrl = ttcResultService.saveFailedTtcResult(
@@ -186,6 +223,7 @@ public class CseRunner {
                 finalCgmUrl = firstShiftNetworkName;
             }
 
+            artifactUploads.awaitAllUploads();
             return new CseResponse(cseRequest.getId(), ttcResultUrl, finalCgmUrl, multipleDichotomyResult.isInterrupted(), multipleDichotomyResult.isRaoFailed());
 
         } catch (LoadflowComputationException e) {
@@ -198,6 +236,36 @@ public class CseRunner {
 
     }
 
+    /**
+     * Dichotomy starts from the index of the request when it is defined, otherwise from the index hinted by previous
+     * results if any with its narrowed first step, then from the linear estimate of the TTC if enabled, and otherwise
+     * from the sum of NTCs.
+     */
+    private double getInitialIndexValue(CseRequest cseRequest, CseData cseData, Network network, Map<String, Double> referenceExchanges, Map<String, Double> ntcsByEic) {
+        if (cseRequest.getInitialDichotomyIndex() != null) {
+            return cseRequest.getInitialDichotomyIndex();
+        }
+        Optional<IndexHintService.IndexHint> indexHint = indexHintService.getIndexHint(cseRequest.getProcessType(), cseRequest.isImportEcProcess(), cseRequest.getTargetProcessDateTime(), cseRequest.getInitialDichotomyStep());
+        if (indexHint.isPresent()) {
+            businessLogger.info("Dichotomy starts from index {} hinted by previous results", (int) indexHint.get().initialIndexValue());
+            cseData.setInitialDichotomyStep(indexHint.get().initialDichotomyStep());
+            return indexHint.get().initialIndexValue();
+        }
+        double ntcIndexValue = ntcsByEic.values().stream().mapToDouble(Double::doubleValue).sum();
+        OptionalDouble ttcEstimateIndexValue = linearTtcEstimator.estimate(cseRequest, cseData, network, ntcIndexValue, referenceExchanges, ntcsByEic);
+        if (ttcEstimateIndexValue.isPresent()) {
+            businessLogger.info("Dichotomy starts from index {} estimated by load flows", (int) ttcEstimateIndexValue.getAsDouble());
+            return ttcEstimateIndexValue.getAsDouble();
+        }
+        return ntcIndexValue;
+    }
+
+    private CseResponse getInterruptedResponse(CseRequest cseRequest) {
+        businessLogger.warn("Computation has been interrupted for timestamp {}", cseRequest.getTargetProcessDateTime());
+        LOGGER.info("Response sent for timestamp {} : run has been interrupted", cseRequest.getTargetProcessDateTime());
+        return new CseResponse(cseRequest.getId(), "", "", true, false);
+    }
+
     private DichotomyResult<DichotomyRaoResponse> getDichotomyResult(MultipleDichotomyResult<DichotomyRaoResponse> multipleDichotomyResult) {
         DichotomyResult<DichotomyRaoResponse> dichotomyResult;
         try {
@@ -233,13 +301,4 @@ public class CseRunner {
             this.busBarChangeSwitchesSet = busBarChangeSwitchesSet;
         }
     }
-
-    private boolean checkIsInterrupted(CseRequest cseRequest) {
-        ResponseEntity<Boolean> responseEntity = restTemplateBuilder.build().getForEntity(getInterruptedUrl(cseRequest.getCurrentRunId()), Boolean.class);
-        return responseEntity.getBody() != null && responseEntity.getStatusCode() == HttpStatus.OK && responseEntity.getBody();
-    }
-
-    private String getInterruptedUrl(String runId) {
-        return urlConfiguration.interruptServerUrl() + runId;
-    }
 }
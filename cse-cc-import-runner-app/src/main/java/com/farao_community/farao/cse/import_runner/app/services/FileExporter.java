@@ -7,10 +7,12 @@
 
 package com.farao_community.farao.cse.import_runner.app.services;
 
+import com.farao_community.farao.cse.data.JaxbContextRegistry;
 import com.farao_community.farao.cse.data.xsd.ttc_res.Timestamp;
 import com.farao_community.farao.cse.import_runner.app.configurations.ProcessConfiguration;
 import com.farao_community.farao.cse.import_runner.app.util.FileUtil;
 import com.farao_community.farao.cse.import_runner.app.util.MinioStorageHelper;
+import com.farao_community.farao.cse.network_processing.NetworkStreamExporter;
 import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
 import com.farao_community.farao.cse.runner.api.resource.ProcessType;
 import com.farao_community.farao.minio_adapter.starter.GridcapaFileGroup;
@@ -19,13 +21,12 @@ import com.powsybl.commons.datasource.MemDataSource;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.powsybl.openrao.raoapi.json.JsonRaoParameters;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.OpenRaoSearchTreeParameters;
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBElement;
 import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Marshaller;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 
@@ -35,7 +36,6 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.StringWriter;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -56,6 +56,8 @@ public class FileExporter {
     private static final String RAO_PARAMETERS_FILE_NAME = "raoParameters.json";
     private static final DateTimeFormatter OUTPUTS_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmm");
     private static final String XIIDM_FORMAT = "XIIDM";
+    private static final String RAO_RESULT_FLOWS_IN_MEGAWATTS_PROPERTY = "rao-result.export.json.flows-in-megawatts";
+    private static final String RAO_RESULT_FLOWS_IN_AMPERES_PROPERTY = "rao-result.export.json.flows-in-amperes";
 
     private final MinioAdapter minioAdapter;
     private final ProcessConfiguration processConfiguration;
@@ -69,31 +71,60 @@ public class FileExporter {
     }
 
     public String saveCracInJsonFormat(Crac crac, OffsetDateTime processTargetDateTime, ProcessType processType, boolean isImportEc) {
+        String cracPath = getJsonCracPath(processTargetDateTime, processType, isImportEc);
+        uploadCracInJsonFormat(crac, cracPath, processTargetDateTime, processType, isImportEc);
+        return minioAdapter.generatePreSignedUrl(cracPath);
+    }
+
+    /**
+     * Submits the upload of the CRAC in JSON format to the request artifact uploads, as an upload required by the
+     * computation. The CRAC must not be modified afterwards.
+     */
+    public String saveCracInJsonFormat(Crac crac, OffsetDateTime processTargetDateTime, ProcessType processType, boolean isImportEc, ArtifactUploads artifactUploads) {
+        String cracPath = getJsonCracPath(processTargetDateTime, processType, isImportEc);
+        artifactUploads.submit(cracPath, true, () -> uploadCracInJsonFormat(crac, cracPath, processTargetDateTime, processType, isImportEc));
+        return minioAdapter.generatePreSignedUrl(cracPath);
+    }
+
+    private String getJsonCracPath(OffsetDateTime processTargetDateTime, ProcessType processType, boolean isImportEc) {
+        return MinioStorageHelper.makeDestinationMinioPath(processTargetDateTime, processType, MinioStorageHelper.FileKind.ARTIFACTS, ZoneId.of(processConfiguration.getZoneId()), isImportEc) + JSON_CRAC_FILE_NAME;
+    }
+
+    private void uploadCracInJsonFormat(Crac crac, String cracPath, OffsetDateTime processTargetDateTime, ProcessType processType, boolean isImportEc) {
         MemDataSource memDataSource = new MemDataSource();
         try (OutputStream os = memDataSource.newOutputStream(JSON_CRAC_FILE_NAME, false)) {
             crac.write("JSON", os);
         } catch (IOException e) {
             throw new CseInternalException("Error while trying to save converted CRAC file.", e);
         }
-        String cracPath = MinioStorageHelper.makeDestinationMinioPath(processTargetDateTime, processType, MinioStorageHelper.FileKind.ARTIFACTS, ZoneId.of(processConfiguration.getZoneId()), isImportEc) + JSON_CRAC_FILE_NAME;
         try (InputStream is = memDataSource.newInputStream(JSON_CRAC_FILE_NAME)) {
             minioAdapter.uploadArtifactForTimestamp(cracPath, is, adaptTargetProcessName(processType, isImportEc), "", processTargetDateTime);
         } catch (IOException e) {
             throw new CseInternalException("Error while trying to upload converted CRAC file.", e);
         }
-        return minioAdapter.generatePreSignedUrl(cracPath);
     }
 
     public String saveNetworkInArtifact(Network network, OffsetDateTime processTargetDateTime, String fileType, ProcessType processType, boolean isImportEc) {
-        String networkPath = MinioStorageHelper.makeDestinationMinioPath(processTargetDateTime, processType, MinioStorageHelper.FileKind.ARTIFACTS, ZoneId.of(processConfiguration.getZoneId()), isImportEc) + NETWORK_FILE_NAME;
+        String networkPath = getNetworkArtifactPath(processTargetDateTime, processType, isImportEc);
         return saveNetworkInArtifact(network, networkPath, fileType, processTargetDateTime, processType, isImportEc);
     }
 
+    private String getNetworkArtifactPath(OffsetDateTime processTargetDateTime, ProcessType processType, boolean isImportEc) {
+        return MinioStorageHelper.makeDestinationMinioPath(processTargetDateTime, processType, MinioStorageHelper.FileKind.ARTIFACTS, ZoneId.of(processConfiguration.getZoneId()), isImportEc) + NETWORK_FILE_NAME;
+    }
+
     public String saveNetworkInArtifact(Network network, String networkFilePath, String fileType, OffsetDateTime processTargetDateTime, ProcessType processType, boolean isImportEc) {
         exportAndUploadNetwork(network, XIIDM_FORMAT, GridcapaFileGroup.ARTIFACT, networkFilePath, fileType, processTargetDateTime, processType, isImportEc);
         return minioAdapter.generatePreSignedUrl(networkFilePath);
     }
 
+    /**
+     * Returns the URL an artifact is available at once uploaded, without uploading it.
+     */
+    public String getArtifactUrl(String filePath) {
+        return minioAdapter.generatePreSignedUrl(filePath);
+    }
+
     public String saveRaoParameters(OffsetDateTime offsetDateTime, ProcessType processType, boolean isImportEc) {
         return saveRaoParameters("", Collections.emptyList(), offsetDateTime, processType, isImportEc);
     }
@@ -108,11 +139,24 @@ public class FileExporter {
         return minioAdapter.generatePreSignedUrl(raoParametersDestinationPath);
     }
 
+    /**
+     * Saves the RAO result in JSON format, with flows in both megawatts and amperes as done by the RAO runner.
+     */
+    public String saveRaoResult(RaoResult raoResult, Crac crac, String raoResultFilePath, OffsetDateTime offsetDateTime, ProcessType processType, boolean isImportEc) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Properties properties = new Properties();
+        properties.setProperty(RAO_RESULT_FLOWS_IN_MEGAWATTS_PROPERTY, "true");
+        properties.setProperty(RAO_RESULT_FLOWS_IN_AMPERES_PROPERTY, "true");
+        raoResult.write("JSON", crac, properties, baos);
+        minioAdapter.uploadArtifactForTimestamp(raoResultFilePath, new ByteArrayInputStream(baos.toByteArray()), adaptTargetProcessName(processType, isImportEc), "", offsetDateTime);
+        return minioAdapter.generatePreSignedUrl(raoResultFilePath);
+    }
+
     String getRaoParametersDestinationPath(String basePath, ProcessType processType, OffsetDateTime offsetDateTime, boolean isImportEc) {
         return !StringUtils.isBlank(basePath) ? basePath + RAO_PARAMETERS_FILE_NAME : MinioStorageHelper.makeDestinationMinioPath(offsetDateTime, processType, MinioStorageHelper.FileKind.ARTIFACTS, ZoneId.of(processConfiguration.getZoneId()), isImportEc) + RAO_PARAMETERS_FILE_NAME;
     }
 
-    RaoParameters getRaoParameters(final List<String> remedialActionsAppliedInPreviousStep) {
+    public RaoParameters getRaoParameters(final List<String> remedialActionsAppliedInPreviousStep) {
         final RaoParameters raoParameters = loadRaoParameters();
         if (raoParameters.hasExtension(OpenRaoSearchTreeParameters.class)) {
             final OpenRaoSearchTreeParameters parameters = raoParameters.getExtension(OpenRaoSearchTreeParameters.class);
@@ -129,23 +173,16 @@ public class FileExporter {
     }
 
     String saveTtcResult(Timestamp timestamp, OffsetDateTime processTargetDate, ProcessType processType, boolean isImportEc) {
-        StringWriter stringWriter = new StringWriter();
+        InputStream is;
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(Timestamp.class);
-            Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
-
-            // format the XML output
-            jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-
             QName qName = new QName("Timestamp");
             JAXBElement<Timestamp> root = new JAXBElement<>(qName, Timestamp.class, timestamp);
 
-            jaxbMarshaller.marshal(root, stringWriter);
+            is = JaxbContextRegistry.marshalToInputStream(root, true);
 
         } catch (JAXBException e) {
             throw new CseInternalException("XSD matching error", e);
         }
-        InputStream is = new ByteArrayInputStream(stringWriter.toString().getBytes());
         String outputFilePath = getFilePath(processTargetDate, processType, isImportEc);
         minioAdapter.uploadOutputForTimestamp(outputFilePath, is, adaptTargetProcessName(processType, isImportEc), processConfiguration.getTtcRes(), processTargetDate);
         return minioAdapter.generatePreSignedUrl(outputFilePath);
@@ -167,32 +204,31 @@ public class FileExporter {
 
     public String exportAndUploadNetwork(Network network, String format, GridcapaFileGroup fileGroup, String filePath, String fileType, OffsetDateTime offsetDateTime, ProcessType processType, boolean isImportEc) {
         try (InputStream is = getNetworkInputStream(network, format)) {
-            switch (fileGroup) {
-                case OUTPUT:
-                    minioAdapter.uploadOutputForTimestamp(filePath, is, adaptTargetProcessName(processType, isImportEc), fileType, offsetDateTime);
-                    break;
-                case ARTIFACT:
-                    minioAdapter.uploadArtifactForTimestamp(filePath, is, adaptTargetProcessName(processType, isImportEc), fileType, offsetDateTime);
-                    break;
-                default:
-                    throw new UnsupportedOperationException(String.format("File group %s not supported", fileGroup));
-
-            }
+            uploadNetwork(is, fileGroup, filePath, fileType, offsetDateTime, processType, isImportEc);
         } catch (IOException e) {
             throw new CseInternalException("Error while trying to save network", e);
         }
         return minioAdapter.generatePreSignedUrl(filePath);
     }
 
+    private void uploadNetwork(InputStream is, GridcapaFileGroup fileGroup, String filePath, String fileType, OffsetDateTime offsetDateTime, ProcessType processType, boolean isImportEc) {
+        switch (fileGroup) {
+            case OUTPUT:
+                minioAdapter.uploadOutputForTimestamp(filePath, is, adaptTargetProcessName(processType, isImportEc), fileType, offsetDateTime);
+                break;
+            case ARTIFACT:
+                minioAdapter.uploadArtifactForTimestamp(filePath, is, adaptTargetProcessName(processType, isImportEc), fileType, offsetDateTime);
+                break;
+            default:
+                throw new UnsupportedOperationException(String.format("File group %s not supported", fileGroup));
+
+        }
+    }
+
     private InputStream getNetworkInputStream(Network network, String format) throws IOException {
-        MemDataSource memDataSource = new MemDataSource();
         switch (format) {
-            case "UCTE":
-                network.write("UCTE", new Properties(), memDataSource);
-                return memDataSource.newInputStream("", "uct");
-            case XIIDM_FORMAT:
-                network.write(XIIDM_FORMAT, new Properties(), memDataSource);
-                return memDataSource.newInputStream("", "xiidm");
+            case "UCTE", XIIDM_FORMAT:
+                return NetworkStreamExporter.export(network, format);
             default:
                 throw new UnsupportedOperationException(String.format("Network format %s not supported", format));
         }
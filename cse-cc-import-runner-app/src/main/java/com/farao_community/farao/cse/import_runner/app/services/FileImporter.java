@@ -24,6 +24,7 @@ import com.farao_community.farao.cse.import_runner.app.util.FileUtil;
 import com.farao_community.farao.cse.import_runner.app.util.Ntc2Util;
 import com.farao_community.farao.cse.runner.api.exception.CseInvalidDataException;
 import com.farao_community.farao.cse.runner.api.resource.ProcessType;
+import com.powsybl.glsk.api.GlskDocument;
 import com.powsybl.glsk.api.io.GlskDocumentImporters;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.iidm.modification.scalable.Scalable;
@@ -32,14 +33,12 @@ import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.io.cse.xsd.CRACDocumentType;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.powsybl.openrao.data.raoresult.io.json.RaoResultJsonImporter;
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Service;
 
-import javax.xml.transform.stream.StreamSource;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -59,23 +58,24 @@ public class FileImporter {
 
     private final UrlConfiguration urlConfiguration;
     private final Logger businessLogger;
+    private final InputFileCache inputFileCache;
+    private final ParsedInputCache parsedInputCache;
 
-    public FileImporter(UrlConfiguration urlConfiguration, Logger businessLogger) {
+    public FileImporter(UrlConfiguration urlConfiguration, Logger businessLogger, InputFileCache inputFileCache, ParsedInputCache parsedInputCache) {
         this.urlConfiguration = urlConfiguration;
         this.businessLogger = businessLogger;
+        this.inputFileCache = inputFileCache;
+        this.parsedInputCache = parsedInputCache;
     }
 
     public Network importNetwork(String cgmUrl) {
-        return Network.read(FileUtil.getFilenameFromUrl(cgmUrl), openUrlStream(cgmUrl));
+        return Network.read(FileUtil.getFilenameFromUrl(cgmUrl), openUncachedUrlStream(cgmUrl));
     }
 
     public CRACDocumentType importCseCrac(String cracUrl) {
 
-        try (InputStream cracInputStream = openUrlStream(cracUrl)) {
-            return JAXBContext.newInstance(CRACDocumentType.class)
-                    .createUnmarshaller()
-                    .unmarshal(new StreamSource(cracInputStream), CRACDocumentType.class)
-                    .getValue();
+        try {
+            return parseXmlInput(cracUrl, CRACDocumentType.class);
         } catch (JAXBException | IOException e) {
             throw new CseInvalidDataException(String.format("impossible to import Crac file from : %s", cracUrl), e);
         }
@@ -90,11 +90,16 @@ public class FileImporter {
     }
 
     public ZonalData<Scalable> importGlsk(String glskUrl, Network network) {
-        return GlskDocumentImporters.importGlsk(openUrlStream(glskUrl)).getZonalScalable(network);
+        try {
+            // The GLSK document does not leave the importer, only new scalables created from it are returned
+            return parseInput(glskUrl, GlskDocument.class, GlskDocumentImporters::importGlsk).getZonalScalable(network);
+        } catch (JAXBException | IOException e) {
+            throw new CseInvalidDataException(String.format("impossible to import GLSK file from : %s", glskUrl), e);
+        }
     }
 
     public RaoResult importRaoResult(String raoResultUrl, Crac crac) {
-        return new RaoResultJsonImporter().importData(openUrlStream(raoResultUrl), crac);
+        return new RaoResultJsonImporter().importData(openUncachedUrlStream(raoResultUrl), crac);
     }
 
     public Ntc importNtc(OffsetDateTime targetProcessDateTime, String yearlyNtcUrl, String dailyNtcUrl, boolean isImportEc) {
@@ -106,8 +111,8 @@ public class FileImporter {
     }
 
     private Ntc getNtc(OffsetDateTime targetProcessDateTime, String yearlyNtcUrl, String dailyNtcUrl, boolean isImportEc) {
-        try (InputStream yearlyNtcStream = openUrlStream(yearlyNtcUrl)) {
-            YearlyNtcDocument yearlyNtc = new YearlyNtcDocument(targetProcessDateTime, DataUtil.unmarshalFromInputStream(yearlyNtcStream, NTCAnnualDocument.class));
+        try {
+            YearlyNtcDocument yearlyNtc = new YearlyNtcDocument(targetProcessDateTime, parseXmlInput(yearlyNtcUrl, NTCAnnualDocument.class));
             DailyNtcDocument dailyNtc = null;
             if (StringUtils.isNotBlank(dailyNtcUrl)) {
                 dailyNtc = getDailyNtcDocument(targetProcessDateTime, dailyNtcUrl);
@@ -119,16 +124,16 @@ public class FileImporter {
     }
 
     private DailyNtcDocument getDailyNtcDocument(OffsetDateTime targetProcessDateTime, String dailyNtcUrl) {
-        try (InputStream dailyNtcStream = openUrlStream(dailyNtcUrl)) {
-            return new DailyNtcDocument(targetProcessDateTime, DataUtil.unmarshalFromInputStream(dailyNtcStream, NTCReductionsDocument.class));
+        try {
+            return new DailyNtcDocument(targetProcessDateTime, parseXmlInput(dailyNtcUrl, NTCReductionsDocument.class));
         } catch (IOException | JAXBException e) {
             throw new CseInvalidDataException(IMPOSSIBLE_TO_CREATE_NTC, e);
         }
     }
 
     private Ntc getNtcFromAdapted(OffsetDateTime targetProcessDateTime, String yearlyNtcUrl, String dailyNtcUrl, boolean isImportEc) {
-        try (InputStream yearlyNtcStream = openUrlStream(yearlyNtcUrl)) {
-            YearlyNtcDocumentAdapted yearlyNtc = new YearlyNtcDocumentAdapted(targetProcessDateTime, DataUtil.unmarshalFromInputStream(yearlyNtcStream, com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCAnnualDocument.class));
+        try {
+            YearlyNtcDocumentAdapted yearlyNtc = new YearlyNtcDocumentAdapted(targetProcessDateTime, parseXmlInput(yearlyNtcUrl, com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCAnnualDocument.class));
             DailyNtcDocumentAdapted dailyNtc = null;
 
             if (StringUtils.isNotBlank(dailyNtcUrl)) {
@@ -141,8 +146,8 @@ public class FileImporter {
     }
 
     private DailyNtcDocumentAdapted getDailyNtcDocumentAdapted(OffsetDateTime targetProcessDateTime, String dailyNtcUrl) {
-        try (InputStream dailyNtcStream = openUrlStream(dailyNtcUrl)) {
-            return new DailyNtcDocumentAdapted(targetProcessDateTime, DataUtil.unmarshalFromInputStream(dailyNtcStream, com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCReductionsDocument.class));
+        try {
+            return new DailyNtcDocumentAdapted(targetProcessDateTime, parseXmlInput(dailyNtcUrl, com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCReductionsDocument.class));
         } catch (IOException | JAXBException e) {
             throw new CseInvalidDataException(IMPOSSIBLE_TO_CREATE_NTC, e);
         }
@@ -173,19 +178,77 @@ public class FileImporter {
         }
     }
 
+    private <T> T parseXmlInput(String url, Class<T> type) throws IOException, JAXBException {
+        return parseInput(url, type, inputStream -> DataUtil.unmarshalFromInputStream(inputStream, type));
+    }
+
+    /**
+     * Parses the document available at the given URL, or retrieves it from the parsed input cache when the same
+     * version of the same object has already been parsed into the same type. The version is read from the storage
+     * without downloading the document. Cached documents are shared across requests and must only be read: the CSE
+     * CRAC, NTC and GLSK documents are only read by the bus bar pre-processing and the NTC and GLSK importers.
+     */
+    private <T> T parseInput(String urlString, Class<T> type, InputParser<T> inputParser) throws IOException, JAXBException {
+        final InputFileCache.InputVersion inputVersion = parsedInputCache.isEnabled() ? getInputVersion(urlString) : null;
+        if (inputVersion == null) {
+            try (InputStream inputStream = openUrlStream(urlString)) {
+                return inputParser.parse(inputStream);
+            }
+        }
+        final T cachedObject = parsedInputCache.get(type, inputVersion.key());
+        if (cachedObject != null) {
+            return cachedObject;
+        }
+        final T parsedObject;
+        try (InputStream inputStream = openUrlStream(urlString)) {
+            parsedObject = inputParser.parse(inputStream);
+        }
+        parsedInputCache.put(type, inputVersion.key(), parsedObject, inputVersion.sizeInBytes());
+        return parsedObject;
+    }
+
+    private InputFileCache.InputVersion getInputVersion(String urlString) {
+        try {
+            return inputFileCache.getVersion(toWhitelistedUrl(urlString)); // NOSONAR Usage of whitelist not triggered by Sonar quality assessment, even if listed as a solution to the vulnerability
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            // The document is then parsed without cache, its download reporting the error if any
+            return null;
+        }
+    }
+
+    /**
+     * Opens the input file at the given URL through the input file cache. Only small inputs read again by the
+     * following runs or steps, such as CRACs, NTCs or reference exchanges, are worth keeping in memory.
+     */
     InputStream openUrlStream(String urlString) {
+        return openUrlStream(urlString, true);
+    }
+
+    /**
+     * Opens the input file at the given URL directly, for large files specific to a run, such as networks and RAO
+     * results, that must not be held in memory.
+     */
+    private InputStream openUncachedUrlStream(String urlString) {
+        return openUrlStream(urlString, false);
+    }
+
+    private InputStream openUrlStream(String urlString, boolean isCached) {
         try {
-            if (urlConfiguration.whitelist().stream().noneMatch(urlString::startsWith)) {
-                throw new CseInvalidDataException(String.format("URL '%s' is not part of application's whitelisted url's.", urlString));
-            }
-            URL url = new URI(urlString).toURL();
-            return url.openStream(); // NOSONAR Usage of whitelist not triggered by Sonar quality assessment, even if listed as a solution to the vulnerability
+            URL url = toWhitelistedUrl(urlString);
+            return isCached ? inputFileCache.openStream(url) : url.openStream(); // NOSONAR Usage of whitelist not triggered by Sonar quality assessment, even if listed as a solution to the vulnerability
         } catch (IOException | URISyntaxException | IllegalArgumentException e) {
             businessLogger.error("Error while retrieving content of file \"{}\", link may have expired.", getFileNameFromUrl(urlString));
             throw new CseDataException(String.format("Exception occurred while retrieving file content from %s", urlString), e);
         }
     }
 
+    private URL toWhitelistedUrl(String urlString) throws URISyntaxException, IOException {
+        if (urlConfiguration.whitelist().stream().noneMatch(urlString::startsWith)) {
+            throw new CseInvalidDataException(String.format("URL '%s' is not part of application's whitelisted url's.", urlString));
+        }
+        return new URI(urlString).toURL();
+    }
+
     private String getFileNameFromUrl(String stringUrl) {
         try {
             URL url = new URI(stringUrl).toURL();
@@ -212,4 +275,9 @@ public class FileImporter {
             }
         }
     }
+
+    @FunctionalInterface
+    private interface InputParser<T> {
+        T parse(InputStream inputStream) throws IOException, JAXBException;
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.services;
+
+import com.farao_community.farao.cse.import_runner.app.configurations.IndexHintConfiguration;
+import com.farao_community.farao.cse.import_runner.app.configurations.ProcessConfiguration;
+import com.farao_community.farao.cse.runner.api.resource.ProcessType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the highest secure Italian import found for each computed timestamp, and proposes a dichotomy starting
+ * index and first step for the next timestamps of the same process, import EC flag, hour and day of week: TTCs of
+ * these timestamps are usually close, so that the dichotomy starting near them needs fewer steps to converge.
+ * <p>
+ * The starting index is the median of the recorded results, and the first step their spread, bounded by the
+ * configured minimum step and the step of the request.
+ * <p>
+ * Results are only kept in memory of this runner instance: they are lost on restart and not shared between replicas.
+ */
+@Service
+public class IndexHintService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexHintService.class);
+
+    private final IndexHintConfiguration indexHintConfiguration;
+    private final ProcessConfiguration processConfiguration;
+    private final ConcurrentMap<IndexHintKey, Deque<Double>> highestSecureIndexesByKey = new ConcurrentHashMap<>();
+
+    public IndexHintService(IndexHintConfiguration indexHintConfiguration, ProcessConfiguration processConfiguration) {
+        this.indexHintConfiguration = indexHintConfiguration;
+        this.processConfiguration = processConfiguration;
+    }
+
+    public void recordHighestSecureIndex(ProcessType processType, boolean isImportEcProcess, OffsetDateTime targetProcessDateTime, double highestSecureIndex) {
+        if (!indexHintConfiguration.enabled()) {
+            return;
+        }
+        final Deque<Double> highestSecureIndexes = highestSecureIndexesByKey.computeIfAbsent(getKey(processType, isImportEcProcess, targetProcessDateTime), key -> new ArrayDeque<>());
+        synchronized (highestSecureIndexes) {
+            highestSecureIndexes.addLast(highestSecureIndex);
+            while (highestSecureIndexes.size() > indexHintConfiguration.historySize()) {
+                highestSecureIndexes.removeFirst();
+            }
+        }
+    }
+
+    public Optional<IndexHint> getIndexHint(ProcessType processType, boolean isImportEcProcess, OffsetDateTime targetProcessDateTime, double requestInitialDichotomyStep) {
+        if (!indexHintConfiguration.enabled()) {
+            return Optional.empty();
+        }
+        final Deque<Double> highestSecureIndexes = highestSecureIndexesByKey.get(getKey(processType, isImportEcProcess, targetProcessDateTime));
+        if (highestSecureIndexes == null) {
+            return Optional.empty();
+        }
+        final List<Double> sortedIndexes;
+        synchronized (highestSecureIndexes) {
+            sortedIndexes = highestSecureIndexes.stream().sorted().toList();
+        }
+        if (sortedIndexes.size() < Math.max(1, indexHintConfiguration.minSamples())) {
+            return Optional.empty();
+        }
+        final double medianIndex = sortedIndexes.get(sortedIndexes.size() / 2);
+        final double spread = sortedIndexes.getLast() - sortedIndexes.getFirst();
+        final double initialDichotomyStep = Math.min(requestInitialDichotomyStep, Math.max(indexHintConfiguration.minInitialStep(), spread));
+        LOGGER.info("Index hint for {} process (import EC: {}) at {}: starting index {}, initial step {} from {} previous results",
+            processType, isImportEcProcess, targetProcessDateTime, medianIndex, initialDichotomyStep, sortedIndexes.size());
+        return Optional.of(new IndexHint(medianIndex, initialDichotomyStep));
+    }
+
+    private IndexHintKey getKey(ProcessType processType, boolean isImportEcProcess, OffsetDateTime targetProcessDateTime) {
+        final ZonedDateTime localDateTime = targetProcessDateTime.atZoneSameInstant(ZoneId.of(processConfiguration.getZoneId()));
+        return new IndexHintKey(processType, isImportEcProcess, localDateTime.getDayOfWeek(), localDateTime.getHour());
+    }
+
+    public record IndexHint(double initialIndexValue, double initialDichotomyStep) {
+    }
+
+    private record IndexHintKey(ProcessType processType, boolean isImportEcProcess, DayOfWeek dayOfWeek, int hour) {
+    }
+}
@@ -12,7 +12,6 @@ import com.farao_community.farao.cse.import_runner.app.util.FileUtil;
 import com.farao_community.farao.cse.runner.api.resource.CseRequest;
 import com.farao_community.farao.cse.runner.api.resource.ProcessType;
 import com.farao_community.farao.minio_adapter.starter.GridcapaFileGroup;
-import com.powsybl.glsk.api.io.GlskDocumentImporters;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.iidm.modification.scalable.Scalable;
 import com.powsybl.iidm.modification.scalable.ScalingParameters;
@@ -139,6 +138,6 @@ public class InitialShiftService {
     private ZonalData<Scalable> getZonalScalableForProcess(CseRequest cseRequest, Network network) {
         return cseRequest.getProcessType().equals(ProcessType.D2CC) ?
             zonalScalableProvider.get(cseRequest.getMergedGlskUrl(), network, ProcessType.D2CC) :
-            GlskDocumentImporters.importGlsk(fileImporter.openUrlStream(cseRequest.getMergedGlskUrl())).getZonalScalable(network);
+            fileImporter.importGlsk(cseRequest.getMergedGlskUrl(), network);
     }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.cse.import_runner.app.services;
+
+import com.farao_community.farao.cse.import_runner.app.configurations.InputCacheConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-memory cache of downloaded input files, bounded in size with a least recently used eviction.
+ * <p>
+ * Files are identified by their location without query parameters, so that successive pre-signed URLs of a same
+ * object share the same entry, and by a version token: the ETag for HTTP downloads, checked with a conditional
+ * request, or the last modification date and length for other protocols.
+ */
+@Service
+public class InputFileCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InputFileCache.class);
+    private static final String METRICS_PREFIX = "cse.input.cache.";
+
+    private final InputCacheConfiguration inputCacheConfiguration;
+    private final Map<String, CachedInput> cachedInputs = new LinkedHashMap<>(16, 0.75f, true);
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+    private final Counter evictionsCounter;
+    private long cachedBytes;
+
+    public InputFileCache(InputCacheConfiguration inputCacheConfiguration, MeterRegistry meterRegistry) {
+        this.inputCacheConfiguration = inputCacheConfiguration;
+        this.hitsCounter = meterRegistry.counter(METRICS_PREFIX + "hits");
+        this.missesCounter = meterRegistry.counter(METRICS_PREFIX + "misses");
+        this.evictionsCounter = meterRegistry.counter(METRICS_PREFIX + "evictions");
+        meterRegistry.gauge(METRICS_PREFIX + "size.bytes", this, InputFileCache::getCachedBytes);
+    }
+
+    public InputStream openStream(URL url) throws IOException {
+        if (!inputCacheConfiguration.enabled()) {
+            return url.openStream();
+        }
+        final String objectKey = getObjectKey(url);
+        final CachedInput cachedInput = get(objectKey);
+        final URLConnection connection = url.openConnection();
+        final String version;
+        if (connection instanceof HttpURLConnection httpConnection) {
+            if (cachedInput != null) {
+                httpConnection.setRequestProperty("If-None-Match", cachedInput.version());
+                if (httpConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                    httpConnection.disconnect();
+                    return hit(objectKey, cachedInput);
+                }
+            }
+            version = httpConnection.getHeaderField("ETag");
+        } else {
+            version = connection.getLastModified() + "-" + connection.getContentLengthLong();
+            if (cachedInput != null && cachedInput.version().equals(version)) {
+                connection.getInputStream().close();
+                return hit(objectKey, cachedInput);
+            }
+        }
+
+        missesCounter.increment();
+        final byte[] content;
+        try (InputStream inputStream = connection.getInputStream()) {
+            content = inputStream.readAllBytes();
+        }
+        if (version != null) {
+            put(objectKey, new CachedInput(version, content));
+        }
+        return new ByteArrayInputStream(content);
+    }
+
+    /**
+     * Version of the input file at the given URL, read without downloading its content, or null when none is
+     * provided. Its key identifies the content of the file, whatever the URL it is read from.
+     */
+    public InputVersion getVersion(URL url) throws IOException {
+        final URLConnection connection = url.openConnection();
+        if (connection instanceof HttpURLConnection httpConnection) {
+            // Pre-signed URLs only allow the method they were signed for, only the first byte is requested
+            httpConnection.setRequestProperty("Range", "bytes=0-0");
+            try {
+                final int responseCode = httpConnection.getResponseCode();
+                final String eTag = httpConnection.getHeaderField("ETag");
+                if (responseCode != HttpURLConnection.HTTP_OK && responseCode != HttpURLConnection.HTTP_PARTIAL || eTag == null) {
+                    return null;
+                }
+                return new InputVersion(getObjectKey(url) + "#" + eTag, getTotalLength(httpConnection));
+            } finally {
+                httpConnection.disconnect();
+            }
+        }
+        final long length = connection.getContentLengthLong();
+        final InputVersion inputVersion = new InputVersion(getObjectKey(url) + "#" + connection.getLastModified() + "-" + length, length);
+        connection.getInputStream().close();
+        return inputVersion;
+    }
+
+    synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    private InputStream hit(String objectKey, CachedInput cachedInput) {
+        LOGGER.debug("Input file '{}' retrieved from cache", objectKey);
+        hitsCounter.increment();
+        return new ByteArrayInputStream(cachedInput.content());
+    }
+
+    private synchronized CachedInput get(String objectKey) {
+        return cachedInputs.get(objectKey);
+    }
+
+    private synchronized void put(String objectKey, CachedInput cachedInput) {
+        final CachedInput previousInput = cachedInputs.remove(objectKey);
+        if (previousInput != null) {
+            cachedBytes -= previousInput.content().length;
+        }
+        if (cachedInput.content().length > inputCacheConfiguration.maxSizeInBytes()) {
+            return;
+        }
+        cachedInputs.put(objectKey, cachedInput);
+        cachedBytes += cachedInput.content().length;
+        final Iterator<CachedInput> leastRecentlyUsedInputs = cachedInputs.values().iterator();
+        while (cachedBytes > inputCacheConfiguration.maxSizeInBytes() && leastRecentlyUsedInputs.hasNext()) {
+            cachedBytes -= leastRecentlyUsedInputs.next().content().length;
+            leastRecentlyUsedInputs.remove();
+            evictionsCounter.increment();
+        }
+    }
+
+    private static long getTotalLength(HttpURLConnection httpConnection) {
+        // Partial responses give the total length after the range: "bytes 0-0/<length>"
+        final String contentRange = httpConnection.getHeaderField("Content-Range");
+        if (contentRange != null && contentRange.indexOf('/') >= 0) {
+            try {
+                return Long.parseLong(contentRange.substring(contentRange.indexOf('/') + 1).trim());
+            } catch (NumberFormatException e) {
+                return httpConnection.getContentLengthLong();
+            }
+        }
+        return httpConnection.getContentLengthLong();
+    }
+
+    private static String getObjectKey(URL url) {
+        return url.getProtocol() + "://" + Objects.toString(url.getAuthority(), "") + url.getPath();
+    }
+
+    private record CachedInput(String version, byte[] content) {
+    }
+
+    /**
+     * Identification of the content of an input file, and its size in bytes.
+     */
+    public record InputVersion(String key, long sizeInBytes) {
+    }
+}
@@ -7,30 +7,47 @@
 
 package com.farao_community.farao.cse.import_runner.app.services;
 
+import com.farao_community.farao.cse.data.CancellationToken;
 import com.farao_community.farao.dichotomy.api.InterruptionStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Service;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 /**
+ * Registry of the interruptions requested for the runs, that may be processed concurrently. Interruption requests
+ * are kept per run, with the time they were requested and acknowledged by the run, until they are older than
+ * {@link #RUN_INTERRUPTION_TIME_TO_LIVE}: a request received for a run that is not processed by this runner is
+ * never acknowledged.
+ * <p>
+ * Soft interruptions are checked by the dichotomy between its steps. Hard interruptions cancel the
+ * {@link CancellationToken} of the run as soon as they are received, stopping its work in progress.
+ *
  * @author Amira Kahya {@literal <amira.kahya at rte-france.com>}
  * @author Daniel Thirion {@literal <daniel.thirion at rte-france.com>}
  */
 @Service
 public class InterruptionService implements InterruptionStrategy {
     private static final Logger LOGGER = LoggerFactory.getLogger(InterruptionService.class);
+    static final Duration RUN_INTERRUPTION_TIME_TO_LIVE = Duration.ofDays(1);
 
     private final Logger businessLogger;
-    private final Set<String> runsToInterruptSoftly;
+    private final ConcurrentMap<String, RunInterruption> softInterruptionsByRunId;
+    private final ConcurrentMap<String, Instant> hardInterruptionsByRunId;
+    private final ConcurrentMap<String, CancellationToken> cancellationTokensByRunId;
 
     public InterruptionService(final Logger businessLogger) {
         this.businessLogger = businessLogger;
-        this.runsToInterruptSoftly = new HashSet<>();
+        this.softInterruptionsByRunId = new ConcurrentHashMap<>();
+        this.hardInterruptionsByRunId = new ConcurrentHashMap<>();
+        this.cancellationTokensByRunId = new ConcurrentHashMap<>();
     }
 
     @Bean
@@ -40,18 +57,99 @@ public class InterruptionService implements InterruptionStrategy {
 
     private void activateSoftInterruptionFlag(final String runId) {
         LOGGER.info("Soft interruption requested for Run {}", runId);
-        runsToInterruptSoftly.add(runId);
+        final Instant now = Instant.now();
+        purgeRunsRequestedBefore(now.minus(RUN_INTERRUPTION_TIME_TO_LIVE));
+        // A soft interruption sent again after the previous one was acknowledged is a new request for the run
+        softInterruptionsByRunId.merge(runId, new RunInterruption(now, null),
+            (previousInterruption, newInterruption) -> previousInterruption.isAcknowledged() ? newInterruption : previousInterruption);
     }
 
+    @Bean
+    public Consumer<String> hardInterrupt() {
+        return this::activateHardInterruption;
+    }
+
+    private void activateHardInterruption(final String runId) {
+        LOGGER.info("Hard interruption requested for Run {}", runId);
+        final Instant now = Instant.now();
+        purgeRunsRequestedBefore(now.minus(RUN_INTERRUPTION_TIME_TO_LIVE));
+        hardInterruptionsByRunId.putIfAbsent(runId, now);
+        final CancellationToken cancellationToken = cancellationTokensByRunId.get(runId);
+        if (cancellationToken != null) {
+            businessLogger.warn("Hard interruption requested");
+            cancellationToken.cancel();
+        }
+    }
+
+    /**
+     * Registers a run processed by this runner, and returns its cancellation token. The token is already cancelled
+     * if the hard interruption of the run has been received before it started.
+     */
+    public CancellationToken registerRun(final String runId) {
+        final CancellationToken cancellationToken = new CancellationToken();
+        cancellationTokensByRunId.put(runId, cancellationToken);
+        if (hardInterruptionsByRunId.containsKey(runId)) {
+            cancellationToken.cancel();
+        }
+        return cancellationToken;
+    }
+
+    public void unregisterRun(final String runId) {
+        cancellationTokensByRunId.remove(runId);
+    }
+
+    /**
+     * Returns the cancellation token of a registered run, or a token that is never cancelled.
+     */
+    public CancellationToken getCancellationToken(final String runId) {
+        final CancellationToken cancellationToken = cancellationTokensByRunId.get(runId);
+        return cancellationToken != null ? cancellationToken : new CancellationToken();
+    }
+
+    /**
+     * Acknowledges the soft interruption of the run, if it has been requested. Only the first call following the
+     * request returns true, the interruption being then handled by the run.
+     */
     @Override
     public boolean shouldRunBeInterruptedSoftly(final String runId) {
-        final boolean runShouldBeInterrupted = runsToInterruptSoftly.remove(runId);
-        if (runShouldBeInterrupted) {
+        final AtomicBoolean runShouldBeInterrupted = new AtomicBoolean(false);
+        softInterruptionsByRunId.computeIfPresent(runId, (id, runInterruption) -> {
+            if (runInterruption.isAcknowledged()) {
+                return runInterruption;
+            }
+            runShouldBeInterrupted.set(true);
+            return runInterruption.acknowledge(Instant.now());
+        });
+        if (runShouldBeInterrupted.get()) {
             businessLogger.warn("Soft interruption requested");
             LOGGER.info("Run {} should be interrupted softly", runId);
         } else {
             LOGGER.info("Run {} doesn't need to be interrupted softly", runId);
         }
-        return runShouldBeInterrupted;
+        return runShouldBeInterrupted.get();
+    }
+
+    /**
+     * Non-blocking check, without logging nor acknowledgement, that can be polled as often as needed by the run.
+     * Returns true only while the soft interruption of the run is pending, that is requested and not acknowledged yet.
+     */
+    public boolean isSoftInterruptionRequested(final String runId) {
+        final RunInterruption runInterruption = softInterruptionsByRunId.get(runId);
+        return runInterruption != null && !runInterruption.isAcknowledged();
+    }
+
+    void purgeRunsRequestedBefore(final Instant limit) {
+        softInterruptionsByRunId.values().removeIf(runInterruption -> runInterruption.requestedAt().isBefore(limit));
+        hardInterruptionsByRunId.values().removeIf(requestedAt -> requestedAt.isBefore(limit));
+    }
+
+    record RunInterruption(Instant requestedAt, Instant acknowledgedAt) {
+        boolean isAcknowledged() {
+            return acknowledgedAt != null;
+        }
+
+        RunInterruption acknowledge(Instant instant) {
+            return new RunInterruption(requestedAt, instant);
+        }
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.services;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Networks imported during the computation of a request, parsed once per URL and shared by all their consumers.
+ * <p>
+ * Consumers only reading the network, or changing its state such as by a load flow, work on a copy of its working
+ * variant that is removed afterwards, so that the cached network is left unchanged. The last consumer of a network
+ * may take it out of the cache to modify it freely, for instance its topology which is not held by variants.
+ */
+public class NetworkCache {
+    private static final String VARIANT_PREFIX = "network-cache-";
+
+    private final FileImporter fileImporter;
+    private final Map<String, Network> networksByUrl = new ConcurrentHashMap<>();
+    private final AtomicInteger variantCounter = new AtomicInteger();
+
+    public NetworkCache(FileImporter fileImporter) {
+        this.fileImporter = fileImporter;
+    }
+
+    /**
+     * Runs the computation on a temporary variant of the network, copied from its working variant.
+     */
+    public <T, E extends Exception> T computeOnVariant(String networkUrl, NetworkComputation<T, E> computation) throws E {
+        final Network network = networksByUrl.computeIfAbsent(networkUrl, fileImporter::importNetwork);
+        // The working variant of a network is shared by all threads, concurrent consumers have to take turns
+        synchronized (network) {
+            final VariantManager variantManager = network.getVariantManager();
+            final String initialVariantId = variantManager.getWorkingVariantId();
+            final String variantId = VARIANT_PREFIX + variantCounter.incrementAndGet();
+            variantManager.cloneVariant(initialVariantId, variantId);
+            variantManager.setWorkingVariant(variantId);
+            try {
+                return computation.compute(network);
+            } finally {
+                variantManager.setWorkingVariant(initialVariantId);
+                variantManager.removeVariant(variantId);
+            }
+        }
+    }
+
+    /**
+     * Caches a network that has been built locally for the given URL, so that it is not imported by its consumers.
+     */
+    public void put(String networkUrl, Network network) {
+        networksByUrl.put(networkUrl, network);
+    }
+
+    /**
+     * Returns the network and removes it from the cache, so that it can be modified by the caller. It is imported
+     * when it has not been cached yet.
+     */
+    public Network take(String networkUrl) {
+        final Network network = networksByUrl.remove(networkUrl);
+        return network != null ? network : fileImporter.importNetwork(networkUrl);
+    }
+
+    @FunctionalInterface
+    public interface NetworkComputation<T, E extends Exception> {
+        T compute(Network network) throws E;
+    }
+}
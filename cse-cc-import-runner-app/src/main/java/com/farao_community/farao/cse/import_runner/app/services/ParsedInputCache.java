@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.cse.import_runner.app.services;
+
+import com.farao_community.farao.cse.import_runner.app.configurations.ParsedInputCacheConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of input documents already parsed by the runner, shared across requests. Entries are identified by the
+ * parsed type and the version key of the source document, made of its object key and ETag, expire after a
+ * configured time to live and are evicted in least recently used order when the cumulated size of their source
+ * documents exceeds the configured bound.
+ * <p>
+ * Cached objects are handed as is to every request reading the same document version, which must only read them.
+ */
+@Service
+public class ParsedInputCache {
+    private static final String METRICS_PREFIX = "cse.parsed.input.cache.";
+
+    private final ParsedInputCacheConfiguration parsedInputCacheConfiguration;
+    private final Map<String, CachedObject> cachedObjects = new LinkedHashMap<>(16, 0.75f, true);
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+    private long cachedSourceBytes;
+
+    public ParsedInputCache(ParsedInputCacheConfiguration parsedInputCacheConfiguration, MeterRegistry meterRegistry) {
+        this.parsedInputCacheConfiguration = parsedInputCacheConfiguration;
+        this.hitsCounter = meterRegistry.counter(METRICS_PREFIX + "hits");
+        this.missesCounter = meterRegistry.counter(METRICS_PREFIX + "misses");
+        meterRegistry.gauge(METRICS_PREFIX + "source.size.bytes", this, ParsedInputCache::getCachedSourceBytes);
+    }
+
+    public boolean isEnabled() {
+        return parsedInputCacheConfiguration.enabled();
+    }
+
+    public synchronized <T> T get(Class<T> type, String versionKey) {
+        final String key = getKey(type, versionKey);
+        final CachedObject cachedObject = cachedObjects.get(key);
+        if (cachedObject == null || cachedObject.expirationTime() < System.currentTimeMillis()) {
+            if (cachedObject != null) {
+                remove(key);
+            }
+            missesCounter.increment();
+            return null;
+        }
+        hitsCounter.increment();
+        return type.cast(cachedObject.value());
+    }
+
+    public synchronized <T> void put(Class<T> type, String versionKey, T value, long sourceSizeInBytes) {
+        final String key = getKey(type, versionKey);
+        remove(key);
+        if (sourceSizeInBytes > parsedInputCacheConfiguration.maxSizeInBytes()) {
+            return;
+        }
+        final long expirationTime = System.currentTimeMillis() + parsedInputCacheConfiguration.timeToLive().toMillis();
+        cachedObjects.put(key, new CachedObject(value, sourceSizeInBytes, expirationTime));
+        cachedSourceBytes += sourceSizeInBytes;
+        final Iterator<CachedObject> leastRecentlyUsedObjects = cachedObjects.values().iterator();
+        while (cachedSourceBytes > parsedInputCacheConfiguration.maxSizeInBytes() && leastRecentlyUsedObjects.hasNext()) {
+            cachedSourceBytes -= leastRecentlyUsedObjects.next().sourceSizeInBytes();
+            leastRecentlyUsedObjects.remove();
+        }
+    }
+
+    synchronized long getCachedSourceBytes() {
+        return cachedSourceBytes;
+    }
+
+    private void remove(String key) {
+        final CachedObject removedObject = cachedObjects.remove(key);
+        if (removedObject != null) {
+            cachedSourceBytes -= removedObject.sourceSizeInBytes();
+        }
+    }
+
+    private static String getKey(Class<?> type, String versionKey) {
+        return type.getName() + "@" + versionKey;
+    }
+
+    private record CachedObject(Object value, long sourceSizeInBytes, long expirationTime) {
+    }
+}
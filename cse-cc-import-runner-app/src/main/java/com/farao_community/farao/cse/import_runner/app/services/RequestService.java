@@ -20,7 +20,6 @@ import org.slf4j.MDC;
 import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
@@ -42,11 +41,24 @@ public class RequestService {
         this.streamBridge = streamBridge;
     }
 
+    /**
+     * Requests are processed by the consumer threads of the binder, as many as the configured request processing
+     * concurrency. A message is only acknowledged once its request is over and each consumer only prefetches the
+     * message it processes, so messages waiting for a free consumer are left in the queue for other runners.
+     */
     @Bean
-    public Consumer<Flux<byte[]>> request() {
-        return cseRequestFlux -> cseRequestFlux
-                .doOnNext(this::launchCseRequest)
-                .subscribe();
+    public Consumer<byte[]> request() {
+        return this::launchIsolatedCseRequest;
+    }
+
+    private void launchIsolatedCseRequest(byte[] req) {
+        // Consumer threads are reused from one request to another, logs MDC must not leak to the next request
+        MDC.clear();
+        try {
+            launchCseRequest(req);
+        } finally {
+            MDC.clear();
+        }
     }
 
     public void launchCseRequest(byte[] req) {
@@ -8,6 +8,7 @@
 package com.farao_community.farao.cse.import_runner.app.services;
 
 import com.farao_community.farao.cse.computation.BorderExchanges;
+import com.farao_community.farao.cse.computation.BorderExchangesSnapshot;
 import com.farao_community.farao.cse.computation.LoadflowComputationException;
 import com.farao_community.farao.cse.data.cnec.CracResultsHelper;
 import com.farao_community.farao.cse.data.ttc_res.TtcResult;
@@ -19,7 +20,6 @@ import com.farao_community.farao.cse.runner.api.resource.CseRequest;
 import com.farao_community.farao.cse.import_runner.app.CseData;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.farao_community.farao.dichotomy.api.results.LimitingCause;
-import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.io.cse.CseCracCreationContext;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -57,23 +57,25 @@ public class TtcResultService {
         try {
             TtcResult.TtcFiles ttcFiles = createTtcFiles(cseRequest, firstShiftNetworkName, finalNetworkName);
             String networkWithPraUrl = highestSecureStepRaoResponse.getRaoResponse().getNetworkWithPraFileUrl();
-            Network networkWithPra = fileImporter.importNetwork(networkWithPraUrl);
-            double finalItalianImport = BorderExchanges.computeItalianImport(networkWithPra);
-            TtcResult.ProcessData processData = new TtcResult.ProcessData(
-                    highestSecureStepRaoResponse.getForcedPrasIds(),
-                    BorderExchanges.computeCseBordersExchanges(networkWithPra),
-                    cseData.getReducedSplittingFactors(),
-                    BorderExchanges.computeCseCountriesBalances(networkWithPra),
-                    limitingCause,
-                    finalItalianImport,
-                    cseData.getMniiOffset(),
-                    cseRequest.getTargetProcessDateTime().toString()
-            );
+            // The network with PRAs is also used for the final CGM, it is only parsed once for the request
+            Timestamp timestamp = cseData.getNetworkCache().computeOnVariant(networkWithPraUrl, networkWithPra -> {
+                BorderExchangesSnapshot borderExchangesSnapshot = BorderExchanges.computeSnapshot(networkWithPra);
+                TtcResult.ProcessData processData = new TtcResult.ProcessData(
+                        highestSecureStepRaoResponse.getForcedPrasIds(),
+                        borderExchangesSnapshot.cseBordersExchanges(),
+                        cseData.getReducedSplittingFactors(),
+                        borderExchangesSnapshot.cseCountriesBalances(),
+                        limitingCause,
+                        borderExchangesSnapshot.italianImport(),
+                        cseData.getMniiOffset(),
+                        cseRequest.getTargetProcessDateTime().toString()
+                );
 
-            RaoResult raoResult = fileImporter.importRaoResult(highestSecureStepRaoResponse.getRaoResponse().getRaoResultFileUrl(), cseCracCreationContext.getCrac());
-            CracResultsHelper cracResultsHelper = new CracResultsHelper(
-                    cseCracCreationContext, raoResult, networkWithPra, businessLogger);
-            Timestamp timestamp = TtcResult.generate(ttcFiles, processData, cracResultsHelper, preprocessedPsts, preprocessedPisaLinks);
+                RaoResult raoResult = fileImporter.importRaoResult(highestSecureStepRaoResponse.getRaoResponse().getRaoResultFileUrl(), cseCracCreationContext.getCrac());
+                CracResultsHelper cracResultsHelper = new CracResultsHelper(
+                        cseCracCreationContext, raoResult, networkWithPra, businessLogger);
+                return TtcResult.generate(ttcFiles, processData, cracResultsHelper, preprocessedPsts, preprocessedPisaLinks);
+            });
             return fileExporter.saveTtcResult(timestamp, cseRequest.getTargetProcessDateTime(), cseRequest.getProcessType(), cseRequest.isImportEcProcess());
         } catch (LoadflowComputationException e) {
             saveFailedTtcResult(
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.util;
+
+import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Computes the Italian import from the flows of the RAO result after preventive optimization, without any loadflow,
+ * when each branch between Italy and its CSE neighbours is monitored by a preventive CNEC. Flows are read on the
+ * monitored side of the CNECs, so losses of border branches are not taken into account.
+ * <p>
+ * Whether the Italian import can be computed this way only depends on the network and the CRAC, so that the same
+ * source is used for all the steps of a run.
+ */
+public final class RaoResultBorderExchanges {
+    private static final Set<Country> ITALIAN_NEIGHBOURS = Set.of(Country.FR, Country.AT, Country.CH, Country.SI);
+
+    private RaoResultBorderExchanges() {
+        // Should not be instantiated
+    }
+
+    /**
+     * Returns false when the Italian import cannot be computed from RAO results: a border branch is not monitored,
+     * or the border is crossed by an HVDC line, the flow of which is not held by CNECs.
+     */
+    public static boolean canComputeItalianImport(Network network, Crac crac) {
+        boolean hasItalianHvdcBorder = network.getHvdcLineStream()
+            .anyMatch(hvdcLine -> isItalianBorder(hvdcLine.getConverterStation1().getTerminal(), hvdcLine.getConverterStation2().getTerminal()));
+        if (hasItalianHvdcBorder) {
+            return false;
+        }
+        Map<String, FlowCnec> preventiveCnecsByElementId = getPreventiveCnecsByElementId(crac);
+        return getItalianBorderBranches(network).allMatch(branch -> preventiveCnecsByElementId.containsKey(branch.getId()));
+    }
+
+    /**
+     * Must only be called when {@link #canComputeItalianImport(Network, Crac)} is true.
+     */
+    public static double computeItalianImport(Network network, Crac crac, RaoResult raoResult) {
+        Map<String, FlowCnec> preventiveCnecsByElementId = getPreventiveCnecsByElementId(crac);
+        double italianImport = 0;
+        for (Branch<?> branch : getItalianBorderBranches(network).toList()) {
+            FlowCnec flowCnec = preventiveCnecsByElementId.get(branch.getId());
+            if (flowCnec == null) {
+                throw new CseInternalException(String.format("Italian border branch %s is not monitored by a preventive CNEC", branch.getId()));
+            }
+            TwoSides side = flowCnec.getMonitoredSides().contains(TwoSides.ONE) ? TwoSides.ONE : TwoSides.TWO;
+            double flow = raoResult.getFlow(crac.getPreventiveInstant(), flowCnec, side, Unit.MEGAWATT);
+            if (Double.isNaN(flow)) {
+                throw new CseInternalException(String.format("RAO result holds no preventive flow for Italian border CNEC %s", flowCnec.getId()));
+            }
+            // Flow is positive when entering the branch on the monitored side, which is an import if it is not Italian
+            italianImport += getCountry(branch.getTerminal(side)).filter(Country.IT::equals).isPresent() ? -flow : flow;
+        }
+        return italianImport;
+    }
+
+    private static Map<String, FlowCnec> getPreventiveCnecsByElementId(Crac crac) {
+        return crac.getFlowCnecs(crac.getPreventiveState()).stream()
+            .collect(Collectors.toMap(flowCnec -> flowCnec.getNetworkElement().getId(), Function.identity(), (cnec1, cnec2) -> cnec1));
+    }
+
+    private static Stream<Branch> getItalianBorderBranches(Network network) { // NOSONAR network.getBranchStream() returns raw branches
+        return network.getBranchStream().filter(branch -> isItalianBorder(branch.getTerminal1(), branch.getTerminal2()));
+    }
+
+    private static boolean isItalianBorder(Terminal terminal1, Terminal terminal2) {
+        Optional<Country> country1 = getCountry(terminal1);
+        Optional<Country> country2 = getCountry(terminal2);
+        if (country1.isEmpty() || country2.isEmpty()) {
+            return false;
+        }
+        return country1.get() == Country.IT && ITALIAN_NEIGHBOURS.contains(country2.get())
+            || country2.get() == Country.IT && ITALIAN_NEIGHBOURS.contains(country1.get());
+    }
+
+    private static Optional<Country> getCountry(Terminal terminal) {
+        return terminal.getVoltageLevel().getSubstation().flatMap(Substation::getCountry);
+    }
+}
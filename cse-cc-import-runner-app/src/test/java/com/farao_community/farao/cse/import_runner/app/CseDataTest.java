@@ -20,8 +20,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -341,4 +346,30 @@ class CseDataTest {
         assertEquals(2470, exchanges.get(FR));
         assertEquals(475, exchanges.get(SI));
     }
+
+    @Test
+    void ntcIsImportedOnceWhenReadConcurrently() throws Exception {
+        CseRequest cseRequest = mockCseRequest(ProcessType.D2CC);
+        FileImporter slowFileImporter = Mockito.mock(FileImporter.class);
+        Ntc ntc = Mockito.mock(Ntc.class);
+        Mockito.when(slowFileImporter.importNtc(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return ntc;
+        });
+        cseData = new CseData(cseRequest, slowFileImporter);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Ntc>> ntcs = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                ntcs.add(executorService.submit(cseData::getNtc));
+            }
+            for (Future<Ntc> readNtc : ntcs) {
+                assertSame(ntc, readNtc.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        Mockito.verify(slowFileImporter, Mockito.times(1)).importNtc(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+    }
 }
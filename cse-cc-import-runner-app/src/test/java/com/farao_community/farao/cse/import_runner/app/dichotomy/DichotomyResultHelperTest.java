@@ -7,10 +7,14 @@
 
 package com.farao_community.farao.cse.import_runner.app.dichotomy;
 
+import com.farao_community.farao.cse.import_runner.app.configurations.ProcessConfiguration;
+import com.farao_community.farao.cse.import_runner.app.services.FileImporter;
+import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
 import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
 import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
 import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +23,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 
 /**
  * @author Amira Kahya {@literal <amira.kahya at rte-france.com>}
@@ -44,7 +50,7 @@ class DichotomyResultHelperTest {
         Mockito.when(dichotomyRaoResponse.getRaoResponse()).thenReturn(raoResponse);
         Mockito.when(raoResponse.getRaoResultFileUrl()).thenReturn("file://" + Objects.requireNonNull(getClass().getResource("raoResult.json")).getPath());
         Mockito.when(raoResponse.getCracFileUrl()).thenReturn("file://" + Objects.requireNonNull(getClass().getResource("SL_ep13us3case1.json")).getPath());
-        String limitingElement = dichotomyResultHelper.getLimitingElement(dichotomyResult, network);
+        String limitingElement = dichotomyResultHelper.getLimitingElement(dichotomyResult, null, network);
 
         assertEquals("fr1_fr4", limitingElement);
     }
@@ -61,7 +67,7 @@ class DichotomyResultHelperTest {
         Mockito.when(dichotomyRaoResponse.getRaoResponse()).thenReturn(raoResponse);
         Mockito.when(raoResponse.getNetworkWithPraFileUrl()).thenReturn("file://" + Objects.requireNonNull(getClass().getResource("CSE_no_normal_glsk_variation.uct")).getPath());
 
-        double lowestUnsecureItalianImport = dichotomyResultHelper.computeLowestUnsecureItalianImport(dichotomyResult);
+        double lowestUnsecureItalianImport = dichotomyResultHelper.computeLowestUnsecureItalianImport(dichotomyResult, null, null);
 
         assertEquals(6000, lowestUnsecureItalianImport, 1);
     }
@@ -78,8 +84,51 @@ class DichotomyResultHelperTest {
         Mockito.when(dichotomyRaoResponse.getRaoResponse()).thenReturn(raoResponse);
         Mockito.when(raoResponse.getNetworkWithPraFileUrl()).thenReturn("file://" + Objects.requireNonNull(getClass().getResource("CSE_no_normal_glsk_variation.uct")).getPath());
 
-        double highestSecureItalianImport = dichotomyResultHelper.computeHighestSecureItalianImport(dichotomyResult);
+        double highestSecureItalianImport = dichotomyResultHelper.computeHighestSecureItalianImport(dichotomyResult, null, null);
 
         assertEquals(6000, highestSecureItalianImport, 1);
     }
+
+    @Test
+    void testStepAnalyticsAreComputedOncePerStep() throws Exception {
+        DichotomyResult<DichotomyRaoResponse> dichotomyResult = Mockito.mock(DichotomyResult.class);
+        DichotomyStepResult<DichotomyRaoResponse> highestValidStep = Mockito.mock(DichotomyStepResult.class);
+        DichotomyRaoResponse dichotomyRaoResponse = Mockito.mock(DichotomyRaoResponse.class);
+        RaoSuccessResponse raoResponse = Mockito.mock(RaoSuccessResponse.class);
+        FileImporter fileImporter = Mockito.mock(FileImporter.class);
+        String networkFilename = "CSE_no_normal_glsk_variation.uct";
+
+        Mockito.when(dichotomyResult.getHighestValidStep()).thenReturn(highestValidStep);
+        Mockito.when(dichotomyResult.getLowestInvalidStep()).thenReturn(highestValidStep);
+        Mockito.when(highestValidStep.getValidationData()).thenReturn(dichotomyRaoResponse);
+        Mockito.when(dichotomyRaoResponse.getRaoResponse()).thenReturn(raoResponse);
+        Mockito.when(raoResponse.getNetworkWithPraFileUrl()).thenReturn(networkFilename);
+        Mockito.when(fileImporter.importNetwork(networkFilename)).thenAnswer(invocation -> Network.read(networkFilename, getClass().getResourceAsStream(networkFilename)));
+        DichotomyResultHelper memoizingHelper = new DichotomyResultHelper(fileImporter, Mockito.mock(ProcessConfiguration.class));
+
+        double highestSecureItalianImport = memoizingHelper.computeHighestSecureItalianImport(dichotomyResult, null, null);
+        assertEquals(highestSecureItalianImport, memoizingHelper.computeHighestSecureItalianImport(dichotomyResult, null, null));
+        assertEquals(highestSecureItalianImport, memoizingHelper.computeLowestUnsecureItalianImport(dichotomyResult, null, null));
+        Mockito.verify(fileImporter, Mockito.times(1)).importNetwork(any());
+    }
+
+    @Test
+    void italianImportIsNotComputedByLoadflowInARunReadingRaoResults() {
+        DichotomyResult<DichotomyRaoResponse> dichotomyResult = Mockito.mock(DichotomyResult.class);
+        DichotomyStepResult<DichotomyRaoResponse> highestValidStep = Mockito.mock(DichotomyStepResult.class);
+        FileImporter fileImporter = Mockito.mock(FileImporter.class);
+        ProcessConfiguration processConfiguration = Mockito.mock(ProcessConfiguration.class);
+        Crac crac = Mockito.mock(Crac.class);
+        String networkFilename = "TestCase16Nodes.xiidm";
+        Network network = Network.read(networkFilename, getClass().getResourceAsStream(networkFilename));
+
+        Mockito.when(processConfiguration.isItalianImportFromRaoResult()).thenReturn(true);
+        Mockito.when(dichotomyResult.getHighestValidStep()).thenReturn(highestValidStep);
+        Mockito.when(highestValidStep.getValidationData()).thenReturn(Mockito.mock(DichotomyRaoResponse.class));
+        DichotomyResultHelper helper = new DichotomyResultHelper(fileImporter, processConfiguration);
+
+        // Other steps of the run read their Italian import from their RAO result, this one cannot fall back on a loadflow
+        assertThrows(CseInternalException.class, () -> helper.computeHighestSecureItalianImport(dichotomyResult, crac, network));
+        Mockito.verify(fileImporter, Mockito.never()).importNetwork(any());
+    }
 }
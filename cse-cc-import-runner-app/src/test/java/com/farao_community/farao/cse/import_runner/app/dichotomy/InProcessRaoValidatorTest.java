@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.dichotomy;
+
+import com.farao_community.farao.cse.data.CancellationToken;
+import com.farao_community.farao.cse.import_runner.app.services.FileExporter;
+import com.farao_community.farao.cse.import_runner.app.services.FileImporter;
+import com.farao_community.farao.cse.import_runner.app.services.ForcedPrasHandler;
+import com.farao_community.farao.cse.import_runner.app.services.NetworkCache;
+import com.farao_community.farao.cse.network_processing.pra_application.PraApplier;
+import com.farao_community.farao.cse.runner.api.resource.CseRequest;
+import com.farao_community.farao.cse.runner.api.resource.ProcessType;
+import com.farao_community.farao.dichotomy.api.exceptions.RaoFailureException;
+import com.farao_community.farao.dichotomy.api.exceptions.ValidationException;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.raoapi.Rao;
+import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.slf4j.Logger;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class InProcessRaoValidatorTest {
+
+    private static final String CRAC_URL = "http://crac.url";
+
+    @MockitoBean
+    private FileExporter fileExporter;
+
+    @MockitoBean
+    private FileImporter fileImporter;
+
+    @MockitoBean
+    private Logger businessLogger;
+
+    private Network network;
+    private InProcessRaoValidator inProcessRaoValidator;
+
+    @BeforeEach
+    void setUp() {
+        CseRequest cseRequest = mock(CseRequest.class);
+        when(cseRequest.getId()).thenReturn("requestId");
+        when(cseRequest.getCurrentRunId()).thenReturn("runId");
+        when(cseRequest.getTargetProcessDateTime()).thenReturn(OffsetDateTime.now());
+        when(cseRequest.getProcessType()).thenReturn(ProcessType.IDCC);
+        inProcessRaoValidator = new InProcessRaoValidator(cseRequest, CRAC_URL, null, fileExporter, fileImporter, mock(ForcedPrasHandler.class), Set.of(), false, true, new CancellationToken(), businessLogger);
+
+        network = mock(Network.class);
+        VariantManager variantManager = mock(VariantManager.class);
+        when(network.getVariantManager()).thenReturn(variantManager);
+        when(variantManager.getWorkingVariantId()).thenReturn("variantId");
+        when(network.getNameOrId()).thenReturn("networkName");
+        when(fileExporter.getZoneId()).thenReturn("UTC");
+    }
+
+    @Test
+    void validateNetworkRaoFailureException() {
+        Crac crac = mock(Crac.class);
+        when(fileImporter.importCracFromJson(CRAC_URL, network)).thenReturn(crac);
+        when(fileExporter.getRaoParameters(anyList())).thenReturn(new RaoParameters());
+        RaoResult raoResult = mock(RaoResult.class);
+        when(raoResult.getComputationStatus()).thenReturn(ComputationStatus.FAILURE);
+        Rao.Runner raoRunner = mock(Rao.Runner.class);
+        when(raoRunner.run(any(), any(RaoParameters.class))).thenReturn(raoResult);
+
+        try (MockedStatic<Rao> rao = mockStatic(Rao.class)) {
+            rao.when(() -> Rao.find(anyString())).thenReturn(raoRunner);
+            RaoFailureException exception = assertThrows(RaoFailureException.class, () -> inProcessRaoValidator.validateNetwork(network, null));
+            assertEquals("In-process RAO computation failed", exception.getMessage());
+        }
+        // Scaled network is not uploaded for the RAO runner, only its UCTE export is kept in the artifacts
+        verify(fileExporter, never()).saveNetworkInArtifact(any(), anyString(), any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void forcedPrasAreNotAppliedBeforeRao() {
+        ForcedPrasHandler forcedPrasHandler = mock(ForcedPrasHandler.class);
+        CseRequest cseRequest = mock(CseRequest.class);
+        when(cseRequest.getTargetProcessDateTime()).thenReturn(OffsetDateTime.now());
+        when(cseRequest.getProcessType()).thenReturn(ProcessType.IDCC);
+        InProcessRaoValidator validatorWithForcedPras = new InProcessRaoValidator(cseRequest, CRAC_URL, null, fileExporter, fileImporter, forcedPrasHandler, Set.of("forced-pra"), false, true, new CancellationToken(), businessLogger);
+        when(fileImporter.importCracFromJson(CRAC_URL, network)).thenReturn(mock(Crac.class));
+        when(fileExporter.getRaoParameters(anyList())).thenReturn(new RaoParameters());
+        RaoResult raoResult = mock(RaoResult.class);
+        when(raoResult.getComputationStatus()).thenReturn(ComputationStatus.FAILURE);
+        Rao.Runner raoRunner = mock(Rao.Runner.class);
+        when(raoRunner.run(any(), any(RaoParameters.class))).thenReturn(raoResult);
+
+        try (MockedStatic<Rao> rao = mockStatic(Rao.class)) {
+            rao.when(() -> Rao.find(anyString())).thenReturn(raoRunner);
+            assertThrows(RaoFailureException.class, () -> validatorWithForcedPras.validateNetwork(network, null));
+        }
+        // As for the RAO runner, the RAO network does not contain forced PRAs
+        verify(forcedPrasHandler, never()).forcePras(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void stepArtifactsAreOnlySavedForTheStepKeptAsResult() throws Exception {
+        Crac crac = mock(Crac.class);
+        when(fileImporter.importCracFromJson(CRAC_URL, network)).thenReturn(crac);
+        when(fileExporter.getRaoParameters(anyList())).thenReturn(new RaoParameters());
+        when(fileExporter.getArtifactUrl(anyString())).thenAnswer(invocation -> "url/" + invocation.getArgument(0));
+        RaoResult raoResult = mock(RaoResult.class);
+        when(raoResult.getComputationStatus()).thenReturn(ComputationStatus.DEFAULT);
+        Rao.Runner raoRunner = mock(Rao.Runner.class);
+        when(raoRunner.run(any(), any(RaoParameters.class))).thenReturn(raoResult);
+
+        DichotomyStepResult<DichotomyRaoResponse> stepResult;
+        try (MockedStatic<Rao> rao = mockStatic(Rao.class); MockedStatic<PraApplier> praApplier = mockStatic(PraApplier.class)) {
+            rao.when(() -> Rao.find(anyString())).thenReturn(raoRunner);
+            stepResult = inProcessRaoValidator.validateNetwork(network, null);
+        }
+        verify(fileExporter, never()).saveNetworkInArtifact(any(), anyString(), any(), any(), any(), anyBoolean());
+        verify(fileExporter, never()).saveRaoResult(any(), any(), anyString(), any(), any(), anyBoolean());
+
+        String networkWithPraUrl = stepResult.getValidationData().getRaoResponse().getNetworkWithPraFileUrl();
+        NetworkCache networkCache = new NetworkCache(fileImporter);
+        InProcessStepArtifacts stepArtifacts = stepResult.getValidationData().getInProcessStepArtifacts();
+        stepArtifacts.save(networkCache);
+        stepArtifacts.save(networkCache);
+
+        verify(fileExporter).saveNetworkInArtifact(any(), anyString(), any(), any(), any(), anyBoolean());
+        verify(fileExporter).saveRaoResult(any(), any(), anyString(), any(), any(), anyBoolean());
+        // The network with PRAs is not downloaded again by its consumers
+        assertSame(network, networkCache.take(networkWithPraUrl));
+        verify(fileImporter, never()).importNetwork(anyString());
+    }
+
+    @Test
+    void validateNetworkValidationException() {
+        when(fileImporter.importCracFromJson(CRAC_URL, network)).thenThrow(RuntimeException.class);
+        assertThrows(ValidationException.class, () -> inProcessRaoValidator.validateNetwork(network, null));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.dichotomy;
+
+import com.farao_community.farao.cse.import_runner.app.CseData;
+import com.farao_community.farao.cse.import_runner.app.configurations.TtcEstimationConfiguration;
+import com.farao_community.farao.cse.import_runner.app.services.FileExporter;
+import com.farao_community.farao.cse.runner.api.resource.CseRequest;
+import com.farao_community.farao.dichotomy.api.index.BiDirectionalStepsWithReferenceIndexStrategy;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.powsybl.iidm.network.Network;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.OptionalDouble;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LinearTtcEstimatorTest {
+    private static final double REFERENCE_INDEX_VALUE = 2000;
+    private static final double PRECISION = 50;
+
+    @Test
+    void estimatedIndexIsTheFirstZeroMarginReached() {
+        Map<String, Double> referenceMargins = Map.of("cnec1", 300., "cnec2", 100., "cnec3", 50.);
+        // cnec1 loses 100 per 500 MW, cnec2 loses 20 per 500 MW, cnec3 is not affected by the Italian import
+        Map<String, Double> probeMargins = Map.of("cnec1", 200., "cnec2", 80., "cnec3", 50.);
+
+        OptionalDouble estimatedIndex = LinearTtcEstimator.estimateIndex(referenceMargins, probeMargins, 4000, 500);
+
+        assertTrue(estimatedIndex.isPresent());
+        assertEquals(5500, estimatedIndex.getAsDouble(), 1e-6);
+    }
+
+    @Test
+    void noEstimateWhenNoCnecGetsCloserToItsLimit() {
+        OptionalDouble estimatedIndex = LinearTtcEstimator.estimateIndex(Map.of("cnec1", 300.), Map.of("cnec1", 320.), 4000, 500);
+        assertTrue(estimatedIndex.isEmpty());
+    }
+
+    @Test
+    void noEstimateWhenDisabled() {
+        NetworkShifterProvider networkShifterProvider = mock(NetworkShifterProvider.class);
+        LinearTtcEstimator linearTtcEstimator = new LinearTtcEstimator(networkShifterProvider, mock(FileExporter.class), new TtcEstimationConfiguration(false, 500));
+
+        assertTrue(linearTtcEstimator.estimate(mock(CseRequest.class), mock(CseData.class), mock(Network.class), 4000, Map.of(), Map.of()).isEmpty());
+        verifyNoInteractions(networkShifterProvider);
+    }
+
+    @Test
+    void dichotomyStartsOneStepAboveEstimate() {
+        assertEquals(6150, LinearTtcEstimator.getInitialIndexValue(5500, 650), 1e-6);
+        assertEquals(DichotomyRunner.MAX_IMPORT_VALUE, LinearTtcEstimator.getInitialIndexValue(19800, 650), 1e-6);
+    }
+
+    @Test
+    void dichotomyStartingFromEstimateNeedsFewerSteps() {
+        // TTC with remedial actions above the estimate without remedial actions, NTCs sum far below
+        final double ttc = 5740;
+        final double initialDichotomyStep = 650;
+
+        final int stepsFromNtcs = countDichotomySteps(3000, initialDichotomyStep, ttc);
+        final int stepsFromEstimate = countDichotomySteps(LinearTtcEstimator.getInitialIndexValue(5500, initialDichotomyStep), initialDichotomyStep, ttc);
+
+        assertTrue(stepsFromEstimate < stepsFromNtcs, stepsFromEstimate + " steps from estimate, " + stepsFromNtcs + " from NTCs");
+    }
+
+    /**
+     * Runs the index strategy of the dichotomy against a network that is secure up to the given TTC.
+     */
+    private static int countDichotomySteps(double initialIndexValue, double initialDichotomyStep, double ttc) {
+        final IndexStrategy<DichotomyRaoResponse> indexStrategy = new BiDirectionalStepsWithReferenceIndexStrategy<>(initialIndexValue, initialDichotomyStep, REFERENCE_INDEX_VALUE);
+        StepsIndex index = new StepsIndex(Double.NaN, Double.NaN);
+        int steps = 0;
+        while (!indexStrategy.precisionReached(index)) {
+            final double stepValue = indexStrategy.nextValue(index);
+            index = stepValue <= ttc ? new StepsIndex(stepValue, index.lowestInvalidValue) : new StepsIndex(index.highestValidValue, stepValue);
+            steps++;
+        }
+        return steps;
+    }
+
+    private static final class StepsIndex extends Index<DichotomyRaoResponse> {
+        private final double highestValidValue;
+        private final double lowestInvalidValue;
+
+        private StepsIndex(double highestValidValue, double lowestInvalidValue) {
+            super(DichotomyRunner.MIN_IMPORT_VALUE, DichotomyRunner.MAX_IMPORT_VALUE, PRECISION);
+            this.highestValidValue = highestValidValue;
+            this.lowestInvalidValue = lowestInvalidValue;
+        }
+
+        @Override
+        public Pair<Double, DichotomyStepResult<DichotomyRaoResponse>> higherValidStep() {
+            return Double.isNaN(highestValidValue) ? null : Pair.of(highestValidValue, null);
+        }
+
+        @Override
+        public Pair<Double, DichotomyStepResult<DichotomyRaoResponse>> lowerInvalidStep() {
+            return Double.isNaN(lowestInvalidValue) ? null : Pair.of(lowestInvalidValue, null);
+        }
+    }
+}
@@ -8,6 +8,8 @@
 package com.farao_community.farao.cse.import_runner.app.dichotomy;
 
 import com.farao_community.farao.cse.import_runner.app.CseData;
+import com.farao_community.farao.cse.import_runner.app.configurations.ProcessConfiguration;
+import com.farao_community.farao.cse.import_runner.app.services.InterruptionService;
 import com.farao_community.farao.cse.runner.api.resource.CseRequest;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
@@ -138,8 +140,8 @@ class MultipleDichotomyRunnerTest {
 
         Mockito.when(dichotomyResult.getHighestValidStep()).thenReturn(highestValidStep);
         Mockito.when(dichotomyResult.hasValidStep()).thenReturn(true);
-        Mockito.when(dichotomyResultHelper.getLimitingElement(dichotomyResult, network)).thenReturn(limitingElement);
-        Mockito.when(dichotomyResultHelper.computeLowestUnsecureItalianImport(dichotomyResult)).thenReturn(lowestUnsecureItalianImport);
+        Mockito.when(dichotomyResultHelper.getLimitingElement(dichotomyResult, crac, network)).thenReturn(limitingElement);
+        Mockito.when(dichotomyResultHelper.computeLowestUnsecureItalianImport(dichotomyResult, crac, network)).thenReturn(lowestUnsecureItalianImport);
         return dichotomyResult;
     }
 
@@ -413,4 +415,71 @@ class MultipleDichotomyRunnerTest {
         assertEquals(secondDichotomyResult, dichotomyResult.getBestDichotomyResult());
         assertTrue(dichotomyResult.isRaoFailed());
     }
+
+    @Test
+    void testMultipleDichotomyWithParallelForcedPrasCombinations() throws IOException {
+        CseRequest cseRequest = getCseRequest(
+            Map.of("element1", List.of(Set.of("ra1"), Set.of("ra4"), Set.of("ra5")), "default", List.of(Set.of("ra3"))),
+            4
+        );
+        Network networkCopy = Mockito.mock(Network.class);
+        MultipleDichotomyRunner parallelRunner = buildParallelRunner(Mockito.mock(InterruptionService.class), networkCopy);
+
+        DichotomyResult<DichotomyRaoResponse> initialDichotomyResult = mockDichotomyResult("element1", 1000);
+        DichotomyResult<DichotomyRaoResponse> ra1DichotomyResult = mockDichotomyResult("element1", 1500);
+        DichotomyResult<DichotomyRaoResponse> ra4DichotomyResult = mockDichotomyResult("element1", 1200);
+        DichotomyResult<DichotomyRaoResponse> ra5DichotomyResult = mockDichotomyResult("element1", 2000);
+
+        Mockito.when(dichotomyRunner.runDichotomy(eq(cseRequest), eq(cseData), eq(network), anyDouble(), any(), any(), any())).thenReturn(initialDichotomyResult);
+        Mockito.when(dichotomyRunner.runDichotomy(eq(cseRequest), eq(cseData), eq(networkCopy), anyDouble(), anyDouble(), any(), any(), eq(Set.of("ra1")), any())).thenReturn(ra1DichotomyResult);
+        Mockito.when(dichotomyRunner.runDichotomy(eq(cseRequest), eq(cseData), eq(networkCopy), anyDouble(), anyDouble(), any(), any(), eq(Set.of("ra4")), any())).thenReturn(ra4DichotomyResult);
+        Mockito.when(dichotomyRunner.runDichotomy(eq(cseRequest), eq(cseData), eq(networkCopy), anyDouble(), anyDouble(), any(), any(), eq(Set.of("ra5")), any())).thenReturn(ra5DichotomyResult);
+        List.of(initialDichotomyResult, ra1DichotomyResult, ra4DichotomyResult, ra5DichotomyResult)
+            .forEach(result -> Mockito.when(result.getLimitingCause()).thenReturn(LimitingCause.GLSK_LIMITATION));
+
+        MultipleDichotomyResult<DichotomyRaoResponse> dichotomyResult =
+            parallelRunner.runMultipleDichotomy(cseRequest, cseData, network, crac, 1000., referenceExchanges, ntcs);
+
+        // All combinations are launched at once from the initial unsecure index, the ones following the improved
+        // result of ra1 are launched again from its unsecure index as in the sequential run
+        Mockito.verify(dichotomyRunner).runDichotomy(eq(cseRequest), eq(cseData), eq(networkCopy), eq(1000.), eq(1000.), any(), any(), eq(Set.of("ra1")), any());
+        Mockito.verify(dichotomyRunner).runDichotomy(eq(cseRequest), eq(cseData), eq(networkCopy), eq(1500.), eq(1500.), any(), any(), eq(Set.of("ra4")), any());
+        Mockito.verify(dichotomyRunner).runDichotomy(eq(cseRequest), eq(cseData), eq(networkCopy), eq(1500.), eq(1500.), any(), any(), eq(Set.of("ra5")), any());
+        assertEquals(ra5DichotomyResult, dichotomyResult.getBestDichotomyResult());
+        assertEquals(Set.of("ra5"), dichotomyResult.getBestForcedPrasIds());
+    }
+
+    @Test
+    void testMultipleDichotomyWithParallelForcedPrasCombinationsSoftlyInterrupted() throws IOException {
+        CseRequest cseRequest = getCseRequest(
+            Map.of("element1", List.of(Set.of("ra1"), Set.of("ra4")), "default", List.of(Set.of("ra3"))),
+            4
+        );
+        InterruptionService interruptionService = Mockito.mock(InterruptionService.class);
+        Mockito.when(interruptionService.isSoftInterruptionRequested(any())).thenReturn(true);
+        MultipleDichotomyRunner parallelRunner = buildParallelRunner(interruptionService, Mockito.mock(Network.class));
+
+        DichotomyResult<DichotomyRaoResponse> initialDichotomyResult = mockDichotomyResult("element1", 1000);
+        Mockito.when(initialDichotomyResult.getLimitingCause()).thenReturn(LimitingCause.GLSK_LIMITATION);
+        Mockito.when(dichotomyRunner.runDichotomy(eq(cseRequest), eq(cseData), eq(network), anyDouble(), any(), any(), any())).thenReturn(initialDichotomyResult);
+
+        MultipleDichotomyResult<DichotomyRaoResponse> dichotomyResult =
+            parallelRunner.runMultipleDichotomy(cseRequest, cseData, network, crac, 1000., referenceExchanges, ntcs);
+
+        assertTrue(dichotomyResult.isInterrupted());
+        assertEquals(initialDichotomyResult, dichotomyResult.getBestDichotomyResult());
+        Mockito.verify(interruptionService).shouldRunBeInterruptedSoftly(cseRequest.getCurrentRunId());
+        Mockito.verify(dichotomyRunner, Mockito.never()).runDichotomy(any(), any(), any(), anyDouble(), anyDouble(), any(), any(), any(), any());
+    }
+
+    private MultipleDichotomyRunner buildParallelRunner(InterruptionService interruptionService, Network networkCopy) {
+        ProcessConfiguration processConfiguration = Mockito.mock(ProcessConfiguration.class);
+        Mockito.when(processConfiguration.getForcedPrasDichotomyParallelism()).thenReturn(3);
+        return new MultipleDichotomyRunner(processConfiguration, dichotomyRunner, dichotomyResultHelper, interruptionService, LoggerFactory.getLogger(MultipleDichotomyRunnerTest.class)) {
+            @Override
+            Network copyNetwork(Network network) {
+                return networkCopy;
+            }
+        };
+    }
 }
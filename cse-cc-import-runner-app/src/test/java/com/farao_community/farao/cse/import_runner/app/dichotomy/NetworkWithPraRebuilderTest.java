@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.dichotomy;
+
+import com.farao_community.farao.cse.import_runner.app.CseData;
+import com.farao_community.farao.cse.import_runner.app.configurations.LocalPraApplicationConfiguration;
+import com.farao_community.farao.cse.import_runner.app.services.FileImporter;
+import com.farao_community.farao.cse.import_runner.app.services.NetworkCache;
+import com.farao_community.farao.cse.runner.api.resource.CseRequest;
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.results.DichotomyResult;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.farao_community.farao.rao_runner.api.resource.RaoSuccessResponse;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.*;
+
+class NetworkWithPraRebuilderTest {
+    private static final String NETWORK_FILENAME = "/com/farao_community/farao/cse/import_runner/app/services/networkKO.xiidm";
+    private static final String NETWORK_WITH_PRA_URL = "http://network.url/networkWithPRA.xiidm";
+    private static final double HIGHEST_VALID_STEP_INDEX = 5000;
+
+    private NetworkShifterProvider networkShifterProvider;
+    private NetworkShifter networkShifter;
+    private FileImporter fileImporter;
+    private CseData cseData;
+    private Crac crac;
+    private DichotomyResult<DichotomyRaoResponse> dichotomyResult;
+    private Network network;
+
+    @BeforeEach
+    void setUp() {
+        networkShifterProvider = mock(NetworkShifterProvider.class);
+        networkShifter = mock(NetworkShifter.class);
+        when(networkShifterProvider.get(any(), any(), any(), any(), any())).thenReturn(networkShifter);
+        fileImporter = mock(FileImporter.class);
+        cseData = mock(CseData.class);
+        when(cseData.getNetworkCache()).thenReturn(new NetworkCache(fileImporter));
+
+        crac = mock(Crac.class);
+        State preventiveState = mock(State.class);
+        when(crac.getPreventiveState()).thenReturn(preventiveState);
+        RaoResult raoResult = mock(RaoResult.class);
+        when(raoResult.getActivatedNetworkActionsDuringState(preventiveState)).thenReturn(Set.of());
+        when(raoResult.getActivatedRangeActionsDuringState(preventiveState)).thenReturn(Set.of());
+
+        RaoSuccessResponse raoResponse = mock(RaoSuccessResponse.class);
+        when(raoResponse.getNetworkWithPraFileUrl()).thenReturn(NETWORK_WITH_PRA_URL);
+        DichotomyStepResult<DichotomyRaoResponse> highestValidStep = mock(DichotomyStepResult.class);
+        when(highestValidStep.getRaoResult()).thenReturn(raoResult);
+        when(highestValidStep.getValidationData()).thenReturn(new DichotomyRaoResponse(raoResponse, Set.of()));
+        dichotomyResult = mock(DichotomyResult.class);
+        when(dichotomyResult.getHighestValidStep()).thenReturn(highestValidStep);
+        when(dichotomyResult.getHighestValidStepIndex()).thenReturn(HIGHEST_VALID_STEP_INDEX);
+
+        network = readNetwork();
+    }
+
+    @Test
+    void nothingIsRebuiltWhenDisabled() {
+        rebuildNetworkWithPra(new LocalPraApplicationConfiguration(false, false));
+
+        verifyNoInteractions(networkShifterProvider);
+        when(fileImporter.importNetwork(NETWORK_WITH_PRA_URL)).thenReturn(readNetwork());
+        assertNotSame(network, cseData.getNetworkCache().take(NETWORK_WITH_PRA_URL));
+    }
+
+    @Test
+    void rebuiltNetworkIsCachedForTheUrlOfTheRaoNetwork() throws Exception {
+        rebuildNetworkWithPra(new LocalPraApplicationConfiguration(true, false));
+
+        verify(networkShifter).shiftNetwork(HIGHEST_VALID_STEP_INDEX, network);
+        assertSame(network, cseData.getNetworkCache().take(NETWORK_WITH_PRA_URL));
+        verify(fileImporter, never()).importNetwork(any());
+    }
+
+    @Test
+    void forcedPrasAreNotAppliedAsTheyAreNotInTheRaoNetwork() {
+        RaoSuccessResponse raoResponse = dichotomyResult.getHighestValidStep().getValidationData().getRaoResponse();
+        when(dichotomyResult.getHighestValidStep().getValidationData()).thenReturn(new DichotomyRaoResponse(raoResponse, Set.of("forced-pra")));
+
+        rebuildNetworkWithPra(new LocalPraApplicationConfiguration(true, false));
+
+        verify(crac, never()).getNetworkAction(any());
+        assertSame(network, cseData.getNetworkCache().take(NETWORK_WITH_PRA_URL));
+    }
+
+    @Test
+    void rebuiltNetworkIsCachedWhenConsistentWithRaoNetwork() {
+        when(fileImporter.importNetwork(NETWORK_WITH_PRA_URL)).thenReturn(readNetwork());
+
+        rebuildNetworkWithPra(new LocalPraApplicationConfiguration(true, true));
+
+        assertSame(network, cseData.getNetworkCache().take(NETWORK_WITH_PRA_URL));
+    }
+
+    @Test
+    void raoNetworkIsCachedWhenRebuiltNetworkDiffers() throws Exception {
+        Network raoNetworkWithPra = readNetwork();
+        when(fileImporter.importNetwork(NETWORK_WITH_PRA_URL)).thenReturn(raoNetworkWithPra);
+        doAnswer(invocation -> {
+            Network shiftedNetwork = invocation.getArgument(1);
+            shiftedNetwork.getGeneratorStream().forEach(generator -> generator.setTargetP(generator.getTargetP() + 10));
+            return null;
+        }).when(networkShifter).shiftNetwork(anyDouble(), any());
+
+        rebuildNetworkWithPra(new LocalPraApplicationConfiguration(true, true));
+
+        assertSame(raoNetworkWithPra, cseData.getNetworkCache().take(NETWORK_WITH_PRA_URL));
+        verify(fileImporter, times(1)).importNetwork(NETWORK_WITH_PRA_URL);
+    }
+
+    private void rebuildNetworkWithPra(LocalPraApplicationConfiguration configuration) {
+        new NetworkWithPraRebuilder(networkShifterProvider, fileImporter, configuration).rebuildNetworkWithPra(
+            mock(CseRequest.class), cseData, network, network.getVariantManager().getWorkingVariantId(), crac, dichotomyResult, Map.of(), Map.of());
+    }
+
+    private Network readNetwork() {
+        return Network.read("networkKO.xiidm", getClass().getResourceAsStream(NETWORK_FILENAME));
+    }
+}
@@ -6,6 +6,7 @@
  */
 package com.farao_community.farao.cse.import_runner.app.dichotomy;
 
+import com.farao_community.farao.cse.data.CancellationToken;
 import com.farao_community.farao.cse.import_runner.app.services.FileExporter;
 import com.farao_community.farao.cse.import_runner.app.services.FileImporter;
 import com.farao_community.farao.cse.import_runner.app.services.ForcedPrasHandler;
@@ -30,6 +31,11 @@ import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -105,6 +111,127 @@ class RaoRunnerValidatorTest {
         assertThrows(RaoInterruptionException.class, () -> raoRunnerValidator.validateNetwork(network, null));
     }
 
+    @Test
+    void validateNetworkReusesProvidedCrac() {
+        RaoRunnerClient raoRunnerClient = mock(RaoRunnerClient.class);
+        Network network = mock(Network.class);
+        Crac crac = mock(Crac.class);
+
+        RaoRunnerValidator raoRunnerValidator = new RaoRunnerValidator(
+                getCseRequest(ProcessType.IDCC, OffsetDateTime.now()),
+                CRAC_URL,
+                crac,
+                RAO_PARAMETERS_URL,
+                raoRunnerClient,
+                fileExporter,
+                fileImporter,
+                mock(ForcedPrasHandler.class),
+                Set.of(),
+                false,
+                true,
+                new CancellationToken(),
+                businessLogger);
+
+        when(fileExporter.getZoneId()).thenReturn("UTC");
+        VariantManager variantManager = mock(VariantManager.class);
+        when(network.getVariantManager()).thenReturn(variantManager);
+        when(variantManager.getWorkingVariantId()).thenReturn("variantId");
+        when(network.getNameOrId()).thenReturn("networkName");
+        when(fileExporter.saveNetworkInArtifact(any(), any(), any(), any(), any(), anyBoolean())).thenReturn(NETWORK_PRE_SIGNED_URL);
+        RaoSuccessResponse raoResponse = mock(RaoSuccessResponse.class);
+        when(raoRunnerClient.runRao(any())).thenReturn(raoResponse);
+        when(raoResponse.isInterrupted()).thenReturn(true);
+
+        assertThrows(RaoInterruptionException.class, () -> raoRunnerValidator.validateNetwork(network, null));
+        verify(fileImporter, never()).importCracFromJson(anyString(), any());
+    }
+
+    @Test
+    void validateNetworkSkipsUcteExportWhenDisabled() {
+        RaoRunnerClient raoRunnerClient = mock(RaoRunnerClient.class);
+        Network network = mock(Network.class);
+
+        RaoRunnerValidator raoRunnerValidator = new RaoRunnerValidator(
+                getCseRequest(ProcessType.IDCC, OffsetDateTime.now()),
+                CRAC_URL,
+                mock(Crac.class),
+                RAO_PARAMETERS_URL,
+                raoRunnerClient,
+                fileExporter,
+                fileImporter,
+                mock(ForcedPrasHandler.class),
+                Set.of(),
+                false,
+                false,
+                new CancellationToken(),
+                businessLogger);
+
+        when(fileExporter.getZoneId()).thenReturn("UTC");
+        VariantManager variantManager = mock(VariantManager.class);
+        when(network.getVariantManager()).thenReturn(variantManager);
+        when(variantManager.getWorkingVariantId()).thenReturn("variantId");
+        when(network.getNameOrId()).thenReturn("networkName");
+        when(fileExporter.saveNetworkInArtifact(any(), any(), any(), any(), any(), anyBoolean())).thenReturn(NETWORK_PRE_SIGNED_URL);
+        RaoSuccessResponse raoResponse = mock(RaoSuccessResponse.class);
+        when(raoRunnerClient.runRao(any())).thenReturn(raoResponse);
+        when(raoResponse.isInterrupted()).thenReturn(true);
+
+        assertThrows(RaoInterruptionException.class, () -> raoRunnerValidator.validateNetwork(network, null));
+        verify(raoRunnerClient).runRao(any());
+        verify(fileExporter, never()).exportAndUploadNetwork(any(), anyString(), any(), anyString(), anyString(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void validateNetworkStopsWaitingForRaoWhenRunIsCancelled() throws InterruptedException {
+        RaoRunnerClient raoRunnerClient = mock(RaoRunnerClient.class);
+        Network network = mock(Network.class);
+        CancellationToken cancellationToken = new CancellationToken();
+
+        RaoRunnerValidator raoRunnerValidator = new RaoRunnerValidator(
+                getCseRequest(ProcessType.IDCC, OffsetDateTime.now()),
+                CRAC_URL,
+                mock(Crac.class),
+                RAO_PARAMETERS_URL,
+                raoRunnerClient,
+                fileExporter,
+                fileImporter,
+                mock(ForcedPrasHandler.class),
+                Set.of(),
+                false,
+                true,
+                cancellationToken,
+                businessLogger);
+
+        when(fileExporter.getZoneId()).thenReturn("UTC");
+        VariantManager variantManager = mock(VariantManager.class);
+        when(network.getVariantManager()).thenReturn(variantManager);
+        when(variantManager.getWorkingVariantId()).thenReturn("variantId");
+        when(network.getNameOrId()).thenReturn("networkName");
+        when(fileExporter.saveNetworkInArtifact(any(), any(), any(), any(), any(), anyBoolean())).thenReturn(NETWORK_PRE_SIGNED_URL);
+        CountDownLatch raoRequestSent = new CountDownLatch(1);
+        when(raoRunnerClient.runRao(any())).thenAnswer(invocation -> {
+            raoRequestSent.countDown();
+            // RAO response never comes
+            new CountDownLatch(1).await();
+            return null;
+        });
+        Executors.newVirtualThreadPerTaskExecutor().execute(() -> {
+            try {
+                raoRequestSent.await();
+                cancellationToken.cancel();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertThrows(RaoInterruptionException.class, () -> raoRunnerValidator.validateNetwork(network, null));
+        assertEquals(0, raoRequestSent.getCount());
+
+        // Further steps do not send any RAO request
+        assertThrows(RaoInterruptionException.class, () -> raoRunnerValidator.validateNetwork(network, null));
+        verify(raoRunnerClient, times(1)).runRao(any());
+    }
+
     @Test
     void validateNetworkRaoFailureException() {
         ProcessType processType = ProcessType.IDCC;
@@ -172,6 +299,59 @@ class RaoRunnerValidatorTest {
         assertThrows(ValidationException.class, () -> raoRunnerValidator.validateNetwork(network, null));
     }
 
+    @Test
+    void validateNetworkStopsRaoInRaoRunnerWhenNoLongerAwaited() throws Exception {
+        RaoRunnerClient raoRunnerClient = mock(RaoRunnerClient.class);
+        Network network = mock(Network.class);
+        List<String> stoppedRaoRunIds = new CopyOnWriteArrayList<>();
+
+        RaoRunnerValidator raoRunnerValidator = new RaoRunnerValidator(
+                getCseRequest(ProcessType.IDCC, OffsetDateTime.now()),
+                CRAC_URL,
+                mock(Crac.class),
+                RAO_PARAMETERS_URL,
+                raoRunnerClient,
+                fileExporter,
+                fileImporter,
+                mock(ForcedPrasHandler.class),
+                Set.of(),
+                false,
+                false,
+                new CancellationToken(),
+                businessLogger,
+                "speculativeRunId",
+                stoppedRaoRunIds::add);
+
+        when(fileExporter.getZoneId()).thenReturn("UTC");
+        VariantManager variantManager = mock(VariantManager.class);
+        when(network.getVariantManager()).thenReturn(variantManager);
+        when(variantManager.getWorkingVariantId()).thenReturn("variantId");
+        when(network.getNameOrId()).thenReturn("networkName");
+        when(fileExporter.saveNetworkInArtifact(any(), any(), any(), any(), any(), anyBoolean())).thenReturn(NETWORK_PRE_SIGNED_URL);
+        CountDownLatch raoRequestSent = new CountDownLatch(1);
+        when(raoRunnerClient.runRao(any())).thenAnswer(invocation -> {
+            raoRequestSent.countDown();
+            // RAO response never comes
+            new CountDownLatch(1).await();
+            return null;
+        });
+
+        Future<?> validation = Executors.newVirtualThreadPerTaskExecutor().submit(() -> raoRunnerValidator.validateNetwork(network, null));
+        raoRequestSent.await();
+        validation.cancel(true);
+
+        verify(raoRunnerClient, timeout(1000)).runRao(argThat(raoRequest -> "speculativeRunId".equals(raoRequest.getRunId())));
+        await(() -> stoppedRaoRunIds.contains("speculativeRunId"));
+        assertEquals(List.of("speculativeRunId"), stoppedRaoRunIds);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
     private CseRequest getCseRequest(ProcessType type, OffsetDateTime timestamp) {
         CseRequest cseRequest = mock(CseRequest.class);
         when(cseRequest.getId()).thenReturn(REQUEST_ID);
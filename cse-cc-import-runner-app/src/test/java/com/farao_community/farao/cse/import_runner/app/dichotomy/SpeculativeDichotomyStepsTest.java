@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.dichotomy;
+
+import com.farao_community.farao.dichotomy.api.NetworkShifter;
+import com.farao_community.farao.dichotomy.api.NetworkValidator;
+import com.farao_community.farao.dichotomy.api.index.Index;
+import com.farao_community.farao.dichotomy.api.index.IndexStrategy;
+import com.farao_community.farao.dichotomy.api.results.DichotomyStepResult;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SpeculativeDichotomyStepsTest {
+    private static final double STEP_SIZE = 500;
+    private static final double PRECISION = 50;
+
+    private NetworkShifter networkShifter;
+    private NetworkValidator<DichotomyRaoResponse> networkValidator;
+    private Network network;
+    private Network laneNetwork;
+    private VariantManager laneVariantManager;
+    private VariantManager variantManager;
+    private SpeculativeDichotomySteps.SpeculationContext speculationContext;
+    private IndexStrategy<DichotomyRaoResponse> indexStrategy;
+    private DichotomyStepResult<DichotomyRaoResponse> validStepResult;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        networkShifter = mock(NetworkShifter.class);
+        networkValidator = mock(NetworkValidator.class);
+        network = mock(Network.class);
+        variantManager = mock(VariantManager.class);
+        when(network.getVariantManager()).thenReturn(variantManager);
+        laneNetwork = mock(Network.class);
+        laneVariantManager = mock(VariantManager.class);
+        when(laneNetwork.getVariantManager()).thenReturn(laneVariantManager);
+        when(laneVariantManager.getWorkingVariantId()).thenReturn("InitialState");
+        validStepResult = mock(DichotomyStepResult.class);
+        when(validStepResult.isValid()).thenReturn(true);
+        when(networkValidator.validateNetwork(any(), any())).thenReturn(validStepResult);
+        speculationContext = mock(SpeculativeDichotomySteps.SpeculationContext.class);
+        when(speculationContext.newSpeculativeValidator()).thenReturn(networkValidator);
+        when(speculationContext.getPredecessorSignature(any())).thenReturn(Set.of());
+        indexStrategy = mock(IndexStrategy.class);
+        when(indexStrategy.nextValue(any())).thenAnswer(invocation -> nextValue(invocation.getArgument(0)));
+        when(indexStrategy.precisionReached(any())).thenAnswer(invocation -> precisionReached(invocation.getArgument(0)));
+    }
+
+    private static double nextValue(Index<DichotomyRaoResponse> index) {
+        final Pair<Double, DichotomyStepResult<DichotomyRaoResponse>> highestValidStep = index.higherValidStep();
+        final Pair<Double, DichotomyStepResult<DichotomyRaoResponse>> lowestInvalidStep = index.lowerInvalidStep();
+        if (highestValidStep != null && lowestInvalidStep != null) {
+            return (highestValidStep.getLeft() + lowestInvalidStep.getLeft()) / 2;
+        }
+        return highestValidStep != null ? highestValidStep.getLeft() + STEP_SIZE : lowestInvalidStep.getLeft() - STEP_SIZE;
+    }
+
+    private static boolean precisionReached(Index<DichotomyRaoResponse> index) {
+        return index.higherValidStep() != null && index.lowerInvalidStep() != null
+            && index.lowerInvalidStep().getLeft() - index.higherValidStep().getLeft() <= PRECISION;
+    }
+
+    @Test
+    void candidatesExploreBothBranchesOfFirstStep() {
+        try (SpeculativeDichotomySteps speculativeSteps = buildSpeculativeSteps(2)) {
+            assertEquals(List.of(1500., 500.), speculativeSteps.computeCandidates(1000, 2));
+            assertEquals(List.of(1500., 500., 2000., 1250.), speculativeSteps.computeCandidates(1000, 4));
+        }
+    }
+
+    @Test
+    void speculativeResultIsUsedForNextStep() throws Exception {
+        try (SpeculativeDichotomySteps speculativeSteps = buildSpeculativeSteps(2)) {
+            speculativeSteps.shiftNetwork(1000, network);
+            assertSame(validStepResult, speculativeSteps.validateNetwork(network, null));
+            // Step 1000 is secure, the branch below it is discarded
+            assertEquals(List.of(1500.), speculativeSteps.getSpeculativeStepValues());
+
+            speculativeSteps.shiftNetwork(1500, network);
+            assertSame(validStepResult, speculativeSteps.validateNetwork(network, validStepResult));
+
+            verify(networkValidator, times(1)).validateNetwork(eq(network), any());
+            verify(networkShifter, timeout(1000)).shiftNetwork(eq(1500.), eq(laneNetwork));
+            verify(laneVariantManager).cloneVariant("InitialState", "speculative-step-1500", true);
+        }
+    }
+
+    @Test
+    void speculationIsLaunchedAgainWhenPreviousStepRemedialActionsDiffer() throws Exception {
+        when(speculationContext.getPredecessorSignature(any())).thenAnswer(invocation -> invocation.getArgument(0) == null ? Set.of() : Set.of("topo"));
+        try (SpeculativeDichotomySteps speculativeSteps = buildSpeculativeSteps(2)) {
+            speculativeSteps.shiftNetwork(1000, network);
+            speculativeSteps.validateNetwork(network, null);
+            speculativeSteps.shiftNetwork(1500, network);
+            assertSame(validStepResult, speculativeSteps.validateNetwork(network, validStepResult));
+
+            // Step 1500 is validated with the remedial actions of step 1000, without running its RAO on the main network
+            verify(networkValidator, times(1)).validateNetwork(eq(network), any());
+            verify(networkValidator, timeout(1000)).validateNetwork(laneNetwork, validStepResult);
+        }
+    }
+
+    @Test
+    void candidatesAreTheNextStepsOfIndexStrategy() {
+        when(indexStrategy.nextValue(any())).thenReturn(1234.);
+        try (SpeculativeDichotomySteps speculativeSteps = buildSpeculativeSteps(2)) {
+            assertEquals(List.of(1234.), speculativeSteps.computeCandidates(1000, 2));
+        }
+    }
+
+    @Test
+    void forcedPrasOfSpeculativeResultAreAppliedOnNetwork() throws Exception {
+        when(validStepResult.getValidationData()).thenReturn(new DichotomyRaoResponse(null, Set.of("forced-pra")));
+        try (SpeculativeDichotomySteps speculativeSteps = buildSpeculativeSteps(2)) {
+            speculativeSteps.shiftNetwork(1000, network);
+            speculativeSteps.validateNetwork(network, null);
+            verify(speculationContext, never()).applyForcedPras(any(), any());
+            speculativeSteps.shiftNetwork(1500, network);
+            speculativeSteps.validateNetwork(network, validStepResult);
+
+            verify(speculationContext, times(1)).applyForcedPras(network, Set.of("forced-pra"));
+        }
+    }
+
+    @Test
+    void noSpeculationOnceSoftInterruptionIsRequested() throws Exception {
+        when(speculationContext.isSoftInterruptionRequested()).thenReturn(true);
+        try (SpeculativeDichotomySteps speculativeSteps = buildSpeculativeSteps(2)) {
+            speculativeSteps.shiftNetwork(1000, network);
+            speculativeSteps.validateNetwork(network, null);
+
+            assertTrue(speculativeSteps.getSpeculativeStepValues().isEmpty());
+            verify(speculationContext, never()).newSpeculativeValidator();
+        }
+    }
+
+    @Test
+    void noSpeculationWhenIntervalIsBelowPrecision() throws Exception {
+        try (SpeculativeDichotomySteps speculativeSteps = buildSpeculativeSteps(2)) {
+            speculativeSteps.shiftNetwork(1000, network);
+            speculativeSteps.validateNetwork(network, null);
+            assertEquals(List.of(1540., 2040.), speculativeSteps.computeCandidates(1040, 2));
+        }
+    }
+
+    private SpeculativeDichotomySteps buildSpeculativeSteps(int parallelism) {
+        return new SpeculativeDichotomySteps(
+            networkShifter,
+            networkValidator,
+            speculationContext,
+            indexStrategy,
+            Collections.nCopies(parallelism, laneNetwork),
+            copy -> networkShifter,
+            0,
+            19999,
+            PRECISION);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.cse.import_runner.app.services;
+
+import com.farao_community.farao.cse.import_runner.app.configurations.ArtifactUploadConfiguration;
+import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArtifactUploadsTest {
+
+    private final ArtifactUploadService artifactUploadService = new ArtifactUploadService(new ArtifactUploadConfiguration(true, 2, 4));
+
+    @Test
+    void requiredUploadsAreAwaitedWithoutWaitingForOtherUploads() throws InterruptedException {
+        ArtifactUploads artifactUploads = artifactUploadService.newArtifactUploads();
+        CountDownLatch slowUploadLatch = new CountDownLatch(1);
+        AtomicBoolean requiredUploadDone = new AtomicBoolean();
+        AtomicBoolean slowUploadDone = new AtomicBoolean();
+
+        artifactUploads.submit("network.xiidm", false, () -> {
+            awaitQuietly(slowUploadLatch);
+            slowUploadDone.set(true);
+        });
+        artifactUploads.submit("crac.json", true, () -> requiredUploadDone.set(true));
+
+        artifactUploads.awaitRequiredUploads();
+        assertTrue(requiredUploadDone.get());
+        assertFalse(slowUploadDone.get());
+
+        slowUploadLatch.countDown();
+        artifactUploads.awaitAllUploads();
+        assertTrue(slowUploadDone.get());
+    }
+
+    @Test
+    void failedUploadsAreReportedWhenAwaited() {
+        ArtifactUploads artifactUploads = artifactUploadService.newArtifactUploads();
+        artifactUploads.submit("network.xiidm", false, () -> {
+            throw new CseInternalException("MinIO unavailable");
+        });
+        artifactUploads.submit("crac.json", true, () -> { });
+
+        artifactUploads.awaitRequiredUploads();
+        CseInternalException exception = assertThrows(CseInternalException.class, artifactUploads::awaitAllUploads);
+        assertEquals("Upload of artifacts [network.xiidm] failed", exception.getMessage());
+    }
+
+    @Test
+    void cancelledUploadsAreNotPerformedNorReportedAsFailed() {
+        ArtifactUploads artifactUploads = new ArtifactUploadService(new ArtifactUploadConfiguration(true, 1, 4)).newArtifactUploads();
+        CountDownLatch firstUploadLatch = new CountDownLatch(1);
+        AtomicBoolean secondUploadDone = new AtomicBoolean();
+
+        artifactUploads.submit("network.xiidm", false, () -> awaitQuietly(firstUploadLatch));
+        artifactUploads.submit("network.uct", false, () -> secondUploadDone.set(true));
+        artifactUploads.cancelPendingUploads();
+        firstUploadLatch.countDown();
+
+        artifactUploads.awaitAllUploads();
+        assertFalse(secondUploadDone.get());
+    }
+
+    @Test
+    void uploadsOfFailedRequestAreCancelledAndAwaitedWithoutReportingFailures() {
+        ArtifactUploads artifactUploads = new ArtifactUploadService(new ArtifactUploadConfiguration(true, 1, 4)).newArtifactUploads();
+        CountDownLatch firstUploadLatch = new CountDownLatch(1);
+        AtomicBoolean firstUploadDone = new AtomicBoolean();
+        AtomicBoolean secondUploadDone = new AtomicBoolean();
+
+        artifactUploads.submit("network.xiidm", false, () -> {
+            awaitQuietly(firstUploadLatch);
+            firstUploadDone.set(true);
+            throw new CseInternalException("MinIO unavailable");
+        });
+        artifactUploads.submit("crac.json", true, () -> secondUploadDone.set(true));
+        CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS).execute(firstUploadLatch::countDown);
+
+        artifactUploads.cancelAndAwaitUploads();
+        assertTrue(firstUploadDone.get());
+        assertFalse(secondUploadDone.get());
+    }
+
+    @Test
+    void uploadsAreSynchronousWhenDisabled() {
+        ArtifactUploads artifactUploads = new ArtifactUploadService(new ArtifactUploadConfiguration(false, 2, 4)).newArtifactUploads();
+        AtomicBoolean uploadDone = new AtomicBoolean();
+
+        artifactUploads.submit("network.uct", false, () -> uploadDone.set(true));
+
+        assertFalse(artifactUploads.isAsynchronous());
+        assertTrue(uploadDone.get());
+        assertThrows(CseInternalException.class, () -> artifactUploads.submit("crac.json", true, () -> {
+            throw new CseInternalException("MinIO unavailable");
+        }));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -25,10 +25,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
@@ -63,8 +61,8 @@ class CseRunnerTest {
     @MockitoBean
     private TtcResultService ttcResultService;
 
-    @MockitoBean
-    private RestTemplateBuilder restTemplateBuilder;
+    @Autowired
+    private InterruptionService interruptionService;
 
     @Test
     void testCracImportAndBusbarPreprocess() throws IOException {
@@ -106,15 +104,11 @@ class CseRunnerTest {
             when(dichotomyResult.getBestDichotomyResult()).thenReturn(raoResponse);
             when(raoResponse.hasValidStep()).thenReturn(false);
 
-            RestTemplate restTemplate = mock(RestTemplate.class);
-            when(restTemplateBuilder.build()).thenReturn(restTemplate);
-            when(restTemplate.getForEntity(anyString(), eq(Boolean.class))).thenReturn(ResponseEntity.ok(false));
-
             when(fileExporter.getFinalNetworkFilePath(any(OffsetDateTime.class), any(ProcessType.class), anyString(), anyBoolean())).thenReturn("AnyString");
             when(fileExporter.exportAndUploadNetwork(any(Network.class), anyString(), any(GridcapaFileGroup.class), anyString(), anyString(), any(OffsetDateTime.class), any(ProcessType.class), anyBoolean())).thenReturn("file:/AnyString/IMPORT_EC/test");
             when(ttcResultService.saveFailedTtcResult(any(), any(), any())).thenReturn("file:/AnyTTCfilepath/IMPORT_EC/test");
 
-            doNothing().when(initialShiftService).performInitialShiftFromVulcanusLevelToNtcLevel(any(), any(), any(), anyMap(), anyMap());
+            doNothing().when(initialShiftService).performInitialShiftFromVulcanusLevelToNtcLevel(any(), any(), any(), anyMap(), anyMap(), any());
 
             CseResponse response = cseRunner.run(cseRequest);
 
@@ -140,10 +134,6 @@ class CseRunnerTest {
                 any(Map.class)
         )).thenReturn(dichotomyResult);
 
-        RestTemplate restTemplate = mock(RestTemplate.class);
-        when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        when(restTemplate.getForEntity(anyString(), eq(Boolean.class))).thenReturn(ResponseEntity.ok(false));
-
         when(dichotomyResult.isInterrupted()).thenReturn(true);
         when(dichotomyResult.getBestDichotomyResult()).thenThrow(new IndexOutOfBoundsException());
 
@@ -157,12 +147,10 @@ class CseRunnerTest {
     }
 
     @Test
+    @DirtiesContext
     void testRunPendingInterrupted() throws IOException, URISyntaxException {
-        CseRequest cseRequest = buildTestCseRequest();
-
-        RestTemplate restTemplate = mock(RestTemplate.class);
-        when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        when(restTemplate.getForEntity(anyString(), eq(Boolean.class))).thenReturn(ResponseEntity.ok(true));
+        CseRequest cseRequest = buildTestCseRequest("PENDING_RUNID");
+        interruptionService.hardInterrupt().accept("PENDING_RUNID");
 
         // WHEN
         CseResponse response = cseRunner.run(cseRequest);
@@ -175,10 +163,6 @@ class CseRunnerTest {
 
     @Test
     void testRaoFailure() throws IOException, URISyntaxException {
-        RestTemplate restTemplate = mock(RestTemplate.class);
-        when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        when(restTemplate.getForEntity(anyString(), eq(Boolean.class))).thenReturn(ResponseEntity.ok(false));
-
         CseRequest cseRequest = buildTestCseRequest();
         MultipleDichotomyResult<DichotomyRaoResponse> dichotomyResult = new MultipleDichotomyResult<>();
         dichotomyResult.setInterrupted(false);
@@ -207,9 +191,6 @@ class CseRunnerTest {
 
     @Test
     void testLoadflowComputationDiverged() throws IOException, URISyntaxException {
-        RestTemplate restTemplate = mock(RestTemplate.class);
-        when(restTemplateBuilder.build()).thenReturn(restTemplate);
-        when(restTemplate.getForEntity(anyString(), eq(Boolean.class))).thenReturn(ResponseEntity.ok(false));
         when(fileExporter.getZoneId()).thenReturn("UTC+2");
 
         CseRequest cseRequest = buildTestCseRequest();
@@ -222,9 +203,13 @@ class CseRunnerTest {
     }
 
     private CseRequest buildTestCseRequest() throws MalformedURLException, URISyntaxException {
+        return buildTestCseRequest("RUNID1");
+    }
+
+    private CseRequest buildTestCseRequest(String runId) throws MalformedURLException, URISyntaxException {
         return new CseRequest(
                 "ID1",
-                "RUNID1",
+                runId,
                 ProcessType.IDCC,
                 OffsetDateTime.parse("2021-09-01T20:30Z"),
                 getClass().getResource("20210901_2230_test_network_pisa_test_both_links_connected_setpoint_and_emulation_ok_for_run.uct").toURI().toURL().toString(),
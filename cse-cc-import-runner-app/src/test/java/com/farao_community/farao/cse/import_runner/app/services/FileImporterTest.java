@@ -11,13 +11,18 @@ import com.farao_community.farao.cse.data.CseDataException;
 import com.farao_community.farao.cse.data.ntc.Ntc;
 import com.farao_community.farao.cse.data.ntc2.Ntc2;
 import com.farao_community.farao.cse.data.target_ch.LineFixedFlows;
+import com.farao_community.farao.cse.import_runner.app.configurations.UrlConfiguration;
+import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.io.cse.xsd.CRACDocumentType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mockito;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.Objects;
 
@@ -36,12 +41,38 @@ class FileImporterTest {
     @Autowired
     private FileImporter fileImporter;
 
+    @Autowired
+    private UrlConfiguration urlConfiguration;
+
+    @Autowired
+    private ParsedInputCache parsedInputCache;
+
     @Test
     void testCseCracImport() {
         CRACDocumentType cseCrac = fileImporter.importCseCrac(Objects.requireNonNull(getClass().getResource("20210901_2230_213_CRAC_CO_CSE1.xml")).toString());
         assertEquals(2, cseCrac.getCRACSeries().getFirst().getCriticalBranches().getBaseCaseBranches().getBranch().size());
     }
 
+    @Test
+    void testCseCracImportedTwice() {
+        String cracUrl = Objects.requireNonNull(getClass().getResource("20210901_2230_213_CRAC_CO_CSE1.xml")).toString();
+        CRACDocumentType firstCseCrac = fileImporter.importCseCrac(cracUrl);
+        CRACDocumentType secondCseCrac = fileImporter.importCseCrac(cracUrl);
+        assertEquals(firstCseCrac.getCRACSeries().size(), secondCseCrac.getCRACSeries().size());
+        assertEquals(2, secondCseCrac.getCRACSeries().getFirst().getCriticalBranches().getBaseCaseBranches().getBranch().size());
+    }
+
+    @Test
+    void testNetworkIsNotReadThroughInputFileCache() throws IOException {
+        InputFileCache inputFileCache = Mockito.mock(InputFileCache.class);
+        FileImporter uncachedFileImporter = new FileImporter(urlConfiguration, LoggerFactory.getLogger(FileImporterTest.class), inputFileCache, parsedInputCache);
+
+        Network network = uncachedFileImporter.importNetwork(Objects.requireNonNull(getClass().getResource("20210901_2230_test_network.uct")).toString());
+
+        assertNotNull(network);
+        Mockito.verify(inputFileCache, Mockito.never()).openStream(Mockito.any());
+    }
+
     @Test
     void testTargetChImport() {
         LineFixedFlows lineFixedFlows = fileImporter.importLineFixedFlowFromTargetChFile(
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.services;
+
+import com.farao_community.farao.cse.import_runner.app.configurations.IndexHintConfiguration;
+import com.farao_community.farao.cse.import_runner.app.configurations.ProcessConfiguration;
+import com.farao_community.farao.cse.runner.api.resource.ProcessType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IndexHintServiceTest {
+
+    private static final OffsetDateTime TARGET_DATE_TIME = OffsetDateTime.parse("2021-09-01T20:30Z");
+
+    private final ProcessConfiguration processConfiguration = mock(ProcessConfiguration.class);
+    private IndexHintService indexHintService;
+
+    @BeforeEach
+    void setUp() {
+        when(processConfiguration.getZoneId()).thenReturn("Europe/Paris");
+        indexHintService = new IndexHintService(new IndexHintConfiguration(true, 4, 3, 100), processConfiguration);
+    }
+
+    @Test
+    void noHintBeforeEnoughResultsAreRecorded() {
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, false, TARGET_DATE_TIME.minusWeeks(2), 6000);
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, false, TARGET_DATE_TIME.minusWeeks(1), 6200);
+
+        assertTrue(indexHintService.getIndexHint(ProcessType.D2CC, false, TARGET_DATE_TIME, 650).isEmpty());
+    }
+
+    @Test
+    void hintIsMedianOfLastResultsOfSameHourAndDayOfWeek() {
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, false, TARGET_DATE_TIME.minusWeeks(5), 1000);
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, false, TARGET_DATE_TIME.minusWeeks(4), 6000);
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, false, TARGET_DATE_TIME.minusWeeks(3), 6300);
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, false, TARGET_DATE_TIME.minusWeeks(2), 6100);
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, false, TARGET_DATE_TIME.minusWeeks(1), 6200);
+        // Other hour, other process type, import EC process
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, false, TARGET_DATE_TIME.minusHours(1), 2000);
+        indexHintService.recordHighestSecureIndex(ProcessType.IDCC, false, TARGET_DATE_TIME, 2000);
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, true, TARGET_DATE_TIME, 2000);
+
+        Optional<IndexHintService.IndexHint> indexHint = indexHintService.getIndexHint(ProcessType.D2CC, false, TARGET_DATE_TIME, 650);
+
+        assertTrue(indexHint.isPresent());
+        // Oldest result is out of history
+        assertEquals(6200, indexHint.get().initialIndexValue());
+        assertEquals(300, indexHint.get().initialDichotomyStep());
+    }
+
+    @Test
+    void initialStepIsBounded() {
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, false, TARGET_DATE_TIME.minusWeeks(3), 6000);
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, false, TARGET_DATE_TIME.minusWeeks(2), 6010);
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, false, TARGET_DATE_TIME.minusWeeks(1), 6020);
+        assertEquals(100, indexHintService.getIndexHint(ProcessType.D2CC, false, TARGET_DATE_TIME, 650).orElseThrow().initialDichotomyStep());
+
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, false, TARGET_DATE_TIME, 8000);
+        assertEquals(650, indexHintService.getIndexHint(ProcessType.D2CC, false, TARGET_DATE_TIME, 650).orElseThrow().initialDichotomyStep());
+    }
+
+    @Test
+    void importEcResultsDoNotHintOtherProcesses() {
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, true, TARGET_DATE_TIME.minusWeeks(3), 3000);
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, true, TARGET_DATE_TIME.minusWeeks(2), 3010);
+        indexHintService.recordHighestSecureIndex(ProcessType.D2CC, true, TARGET_DATE_TIME.minusWeeks(1), 3020);
+
+        assertTrue(indexHintService.getIndexHint(ProcessType.D2CC, false, TARGET_DATE_TIME, 650).isEmpty());
+        assertEquals(3010, indexHintService.getIndexHint(ProcessType.D2CC, true, TARGET_DATE_TIME, 650).orElseThrow().initialIndexValue());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.cse.import_runner.app.services;
+
+import com.farao_community.farao.cse.import_runner.app.configurations.InputCacheConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class InputFileCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void sameFileIsReadFromCacheUntilItChanges() throws IOException {
+        InputFileCache inputFileCache = new InputFileCache(new InputCacheConfiguration(true, 1024), meterRegistry);
+        Path file = Files.writeString(tempDir.resolve("ntc.xml"), "first version");
+        URL url = file.toUri().toURL();
+
+        assertArrayEquals("first version".getBytes(), readAll(inputFileCache, url));
+        assertArrayEquals("first version".getBytes(), readAll(inputFileCache, url));
+        assertEquals(1, meterRegistry.counter("cse.input.cache.hits").count());
+        assertEquals(1, meterRegistry.counter("cse.input.cache.misses").count());
+
+        Files.writeString(file, "second version, updated");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+        assertArrayEquals("second version, updated".getBytes(), readAll(inputFileCache, url));
+        assertEquals(2, meterRegistry.counter("cse.input.cache.misses").count());
+        assertEquals(23, inputFileCache.getCachedBytes());
+    }
+
+    @Test
+    void leastRecentlyUsedFilesAreEvicted() throws IOException {
+        InputFileCache inputFileCache = new InputFileCache(new InputCacheConfiguration(true, 20), meterRegistry);
+        URL firstUrl = Files.writeString(tempDir.resolve("first.xml"), "0123456789").toUri().toURL();
+        URL secondUrl = Files.writeString(tempDir.resolve("second.xml"), "0123456789").toUri().toURL();
+        URL thirdUrl = Files.writeString(tempDir.resolve("third.xml"), "0123456789").toUri().toURL();
+
+        readAll(inputFileCache, firstUrl);
+        readAll(inputFileCache, secondUrl);
+        readAll(inputFileCache, firstUrl);
+        readAll(inputFileCache, thirdUrl);
+
+        assertEquals(1, meterRegistry.counter("cse.input.cache.evictions").count());
+        assertEquals(20, inputFileCache.getCachedBytes());
+        readAll(inputFileCache, firstUrl);
+        assertEquals(2, meterRegistry.counter("cse.input.cache.hits").count());
+    }
+
+    @Test
+    void disabledCacheAlwaysReadsFile() throws IOException {
+        InputFileCache inputFileCache = new InputFileCache(new InputCacheConfiguration(false, 1024), meterRegistry);
+        URL url = Files.writeString(tempDir.resolve("glsk.xml"), "content").toUri().toURL();
+
+        readAll(inputFileCache, url);
+        readAll(inputFileCache, url);
+        assertEquals(0, meterRegistry.counter("cse.input.cache.hits").count());
+        assertEquals(0, inputFileCache.getCachedBytes());
+    }
+
+    @Test
+    void versionChangesWithFileContent() throws IOException {
+        InputFileCache inputFileCache = new InputFileCache(new InputCacheConfiguration(false, 1024), meterRegistry);
+        Path file = Files.writeString(tempDir.resolve("crac.xml"), "first version");
+        URL url = file.toUri().toURL();
+
+        InputFileCache.InputVersion firstVersion = inputFileCache.getVersion(url);
+        assertEquals(firstVersion, inputFileCache.getVersion(url));
+        assertEquals(13, firstVersion.sizeInBytes());
+
+        Files.writeString(file, "second version, updated");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+        assertNotEquals(firstVersion.key(), inputFileCache.getVersion(url).key());
+    }
+
+    private static byte[] readAll(InputFileCache inputFileCache, URL url) throws IOException {
+        try (InputStream inputStream = inputFileCache.openStream(url)) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
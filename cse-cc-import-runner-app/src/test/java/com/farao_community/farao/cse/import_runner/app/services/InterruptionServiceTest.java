@@ -7,6 +7,7 @@
 
 package com.farao_community.farao.cse.import_runner.app.services;
 
+import com.farao_community.farao.cse.data.CancellationToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -14,6 +15,8 @@ import org.mockito.Mock;
 import org.slf4j.Logger;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
@@ -49,4 +52,65 @@ class InterruptionServiceTest {
     void shouldNotInterruptRunThatWasNotMarked() {
         assertFalse(interruptionService.shouldRunBeInterruptedSoftly(TASK_ID));
     }
+
+    @Test
+    void shouldAcknowledgeSoftInterruptionOnlyOnce() {
+        interruptionService.softInterrupt().accept(TASK_ID);
+
+        assertTrue(interruptionService.isSoftInterruptionRequested(TASK_ID));
+        assertTrue(interruptionService.shouldRunBeInterruptedSoftly(TASK_ID));
+        assertFalse(interruptionService.shouldRunBeInterruptedSoftly(TASK_ID));
+        assertFalse(interruptionService.isSoftInterruptionRequested(TASK_ID));
+    }
+
+    @Test
+    void shouldInterruptSoftlyAgainWhenRequestedAfterAcknowledgement() {
+        interruptionService.softInterrupt().accept(TASK_ID);
+        assertTrue(interruptionService.shouldRunBeInterruptedSoftly(TASK_ID));
+
+        interruptionService.softInterrupt().accept(TASK_ID);
+
+        assertTrue(interruptionService.isSoftInterruptionRequested(TASK_ID));
+        assertTrue(interruptionService.shouldRunBeInterruptedSoftly(TASK_ID));
+    }
+
+    @Test
+    void shouldKeepInterruptionsOfEachRunSeparately() {
+        interruptionService.softInterrupt().accept(TASK_ID);
+
+        assertFalse(interruptionService.isSoftInterruptionRequested("otherTaskId"));
+        assertFalse(interruptionService.shouldRunBeInterruptedSoftly("otherTaskId"));
+        assertTrue(interruptionService.shouldRunBeInterruptedSoftly(TASK_ID));
+    }
+
+    @Test
+    void shouldPurgeStaleInterruptions() {
+        interruptionService.softInterrupt().accept(TASK_ID);
+
+        interruptionService.purgeRunsRequestedBefore(Instant.now().minus(InterruptionService.RUN_INTERRUPTION_TIME_TO_LIVE));
+        assertTrue(interruptionService.isSoftInterruptionRequested(TASK_ID));
+
+        interruptionService.purgeRunsRequestedBefore(Instant.now().plusSeconds(1));
+        assertFalse(interruptionService.isSoftInterruptionRequested(TASK_ID));
+    }
+
+    @Test
+    void shouldCancelRegisteredRunOnHardInterruption() {
+        CancellationToken cancellationToken = interruptionService.registerRun(TASK_ID);
+        assertFalse(cancellationToken.isCancelled());
+
+        interruptionService.hardInterrupt().accept(TASK_ID);
+
+        assertTrue(cancellationToken.isCancelled());
+        assertTrue(interruptionService.getCancellationToken(TASK_ID).isCancelled());
+        verify(businessLogger).warn("Hard interruption requested");
+    }
+
+    @Test
+    void shouldCancelRunHardInterruptedBeforeItStarted() {
+        interruptionService.hardInterrupt().accept(TASK_ID);
+
+        assertTrue(interruptionService.registerRun(TASK_ID).isCancelled());
+        assertFalse(interruptionService.registerRun("otherTaskId").isCancelled());
+    }
 }
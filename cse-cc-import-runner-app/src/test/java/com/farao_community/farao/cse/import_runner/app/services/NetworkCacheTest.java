@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.services;
+
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NetworkCacheTest {
+
+    private static final String NETWORK_URL = "http://network.url/networkKO.xiidm";
+
+    private FileImporter fileImporter;
+    private NetworkCache networkCache;
+
+    @BeforeEach
+    void setUp() {
+        fileImporter = mock(FileImporter.class);
+        when(fileImporter.importNetwork(NETWORK_URL)).thenAnswer(invocation -> Network.read("networkKO.xiidm", getClass().getResourceAsStream("networkKO.xiidm")));
+        networkCache = new NetworkCache(fileImporter);
+    }
+
+    @Test
+    void networkIsImportedOnceAndLeftUnchangedByComputations() {
+        String initialVariantId = networkCache.computeOnVariant(NETWORK_URL, network -> network.getVariantManager().getWorkingVariantId());
+        Network computedNetwork = networkCache.computeOnVariant(NETWORK_URL, network -> {
+            network.getGeneratorStream().forEach(generator -> generator.setTargetP(generator.getTargetP() + 100));
+            return network;
+        });
+
+        Network takenNetwork = networkCache.take(NETWORK_URL);
+        assertSame(computedNetwork, takenNetwork);
+        assertEquals(initialVariantId, takenNetwork.getVariantManager().getWorkingVariantId());
+        assertEquals(1, takenNetwork.getVariantManager().getVariantIds().size());
+        Network initialNetwork = Network.read("networkKO.xiidm", getClass().getResourceAsStream("networkKO.xiidm"));
+        takenNetwork.getGeneratorStream().forEach(generator -> assertEquals(initialNetwork.getGenerator(generator.getId()).getTargetP(), generator.getTargetP(), 1e-6));
+        verify(fileImporter, times(1)).importNetwork(NETWORK_URL);
+    }
+
+    @Test
+    void takenNetworkIsNotSharedAnymore() {
+        Network takenNetwork = networkCache.take(NETWORK_URL);
+        Network otherNetwork = networkCache.computeOnVariant(NETWORK_URL, network -> network);
+
+        assertNotSame(takenNetwork, otherNetwork);
+        verify(fileImporter, times(2)).importNetwork(NETWORK_URL);
+    }
+}
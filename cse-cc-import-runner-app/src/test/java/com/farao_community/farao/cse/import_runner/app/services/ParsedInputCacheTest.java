@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.cse.import_runner.app.services;
+
+import com.farao_community.farao.cse.import_runner.app.configurations.ParsedInputCacheConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ParsedInputCacheTest {
+
+    @Test
+    void cachedObjectIsRetrievedByTypeAndContentHash() {
+        ParsedInputCache parsedInputCache = new ParsedInputCache(new ParsedInputCacheConfiguration(true, Duration.ofHours(1), 100), new SimpleMeterRegistry());
+        List<String> document = List.of("parsed");
+        parsedInputCache.put(List.class, "hash", document, 10);
+
+        assertSame(document, parsedInputCache.get(List.class, "hash"));
+        assertNull(parsedInputCache.get(List.class, "otherHash"));
+        assertNull(parsedInputCache.get(String.class, "hash"));
+    }
+
+    @Test
+    void expiredObjectIsNotRetrieved() {
+        ParsedInputCache parsedInputCache = new ParsedInputCache(new ParsedInputCacheConfiguration(true, Duration.ofMillis(-1), 100), new SimpleMeterRegistry());
+        parsedInputCache.put(String.class, "hash", "parsed", 10);
+
+        assertNull(parsedInputCache.get(String.class, "hash"));
+        assertEquals(0, parsedInputCache.getCachedSourceBytes());
+    }
+
+    @Test
+    void leastRecentlyUsedObjectsAreEvictedAboveSizeBound() {
+        ParsedInputCache parsedInputCache = new ParsedInputCache(new ParsedInputCacheConfiguration(true, Duration.ofHours(1), 100), new SimpleMeterRegistry());
+        parsedInputCache.put(String.class, "first", "first", 40);
+        parsedInputCache.put(String.class, "second", "second", 40);
+        parsedInputCache.get(String.class, "first");
+        parsedInputCache.put(String.class, "third", "third", 40);
+        parsedInputCache.put(String.class, "too-big", "too-big", 150);
+
+        assertEquals("first", parsedInputCache.get(String.class, "first"));
+        assertNull(parsedInputCache.get(String.class, "second"));
+        assertEquals("third", parsedInputCache.get(String.class, "third"));
+        assertNull(parsedInputCache.get(String.class, "too-big"));
+        assertEquals(80, parsedInputCache.getCachedSourceBytes());
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.stream.function.StreamBridge;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RaoRunnerStopServiceTest {
+
+    @Test
+    void stopRequestIsSentWithRaoRunId() {
+        StreamBridge streamBridge = mock(StreamBridge.class);
+
+        new RaoRunnerStopService(streamBridge).stopRao("runId-speculative-1");
+
+        verify(streamBridge).send("stop-rao", "runId-speculative-1");
+    }
+}
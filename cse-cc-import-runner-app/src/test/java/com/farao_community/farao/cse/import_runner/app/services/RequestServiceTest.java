@@ -15,15 +15,19 @@ import com.farao_community.farao.gridcapa.task_manager.api.TaskStatus;
 import com.farao_community.farao.gridcapa.task_manager.api.TaskStatusUpdate;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.cloud.stream.function.StreamBridge;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -111,4 +115,29 @@ class RequestServiceTest {
         assertEquals(TaskStatus.RUNNING, captor.getAllValues().get(0).getTaskStatus());
         assertEquals(TaskStatus.ERROR, captor.getAllValues().get(1).getTaskStatus());
     }
+
+    @Test
+    void testRequestsConsumedFromBinderHaveIsolatedMdc() {
+        Map<String, String> mdcDuringRequest = new ConcurrentHashMap<>();
+        when(cseServer.run(any())).thenAnswer(invocation -> {
+            CseRequest cseRequest = invocation.getArgument(0);
+            mdcDuringRequest.putAll(MDC.getCopyOfContextMap());
+            return new CseResponse(cseRequest.getId(), "null", "null", false, false);
+        });
+        String id = UUID.randomUUID().toString();
+        // Left by a previous request processed by the same consumer thread
+        MDC.put("gridcapa-task-id", "previous-task-id");
+        MDC.put("previous-request-field", "value");
+
+        requestService.request().accept(buildRequestMessage(id));
+
+        assertEquals(Map.of("gridcapa-task-id", id), mdcDuringRequest);
+        assertNull(MDC.get("gridcapa-task-id"));
+        verify(streamBridge, times(2)).send(any(), any());
+    }
+
+    private byte[] buildRequestMessage(String id) {
+        CseRequest cseRequest = new CseRequest(id, UUID.randomUUID().toString(), null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, 0, 0.0, 0.0, null, false);
+        return jsonApiConverter.toJsonMessage(cseRequest, CseRequest.class);
+    }
 }
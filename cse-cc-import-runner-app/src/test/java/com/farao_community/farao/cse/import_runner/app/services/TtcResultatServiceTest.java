@@ -60,6 +60,7 @@ public class TtcResultatServiceTest {
         Mockito.when(raoResponse.getNetworkWithPraFileUrl()).thenReturn("test_url");
         Mockito.when(fileExporter.saveTtcResult(new Timestamp(), OffsetDateTime.parse("2021-09-01T20:30Z"), ProcessType.IDCC, true)).thenReturn("failedRaoTTCFilePath");
         Mockito.when(fileImporter.importNetwork(any())).thenReturn(network);
+        Mockito.when(cseData.getNetworkCache()).thenReturn(new NetworkCache(fileImporter));
 
        // Then
         Exception exception = assertThrows(CseInternalException.class, () -> ttcResultService.saveTtcResult(cseRequest, cseData, cseCracCreationContext, dichotomyRaoResponse, limitingCause, "firstShiftNetworkName", "finalNetworkName", Collections.emptyMap(), Collections.emptyMap()));
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.import_runner.app.util;
+
+import com.farao_community.farao.cse.computation.BorderExchanges;
+import com.farao_community.farao.cse.runner.api.exception.CseInternalException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TieLine;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.NetworkElement;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RaoResultBorderExchangesTest {
+    private static final String NETWORK_FILENAME = "20210901_2230_test_network.uct";
+
+    private Network network;
+    private Crac crac;
+    private RaoResult raoResult;
+    private Instant preventiveInstant;
+    private State preventiveState;
+
+    @BeforeEach
+    void setUp() {
+        network = Network.read(NETWORK_FILENAME, getClass().getResourceAsStream(NETWORK_FILENAME));
+        LoadFlow.run(network);
+        crac = mock(Crac.class);
+        raoResult = mock(RaoResult.class);
+        preventiveInstant = mock(Instant.class);
+        preventiveState = mock(State.class);
+        when(crac.getPreventiveInstant()).thenReturn(preventiveInstant);
+        when(crac.getPreventiveState()).thenReturn(preventiveState);
+    }
+
+    @Test
+    void italianImportIsComputedFromFlowsOfBorderCnecs() throws Exception {
+        Set<FlowCnec> borderCnecs = network.getTieLineStream().map(this::mockCnecWithLoadflowFlow).collect(Collectors.toSet());
+        when(crac.getFlowCnecs(preventiveState)).thenReturn(borderCnecs);
+
+        assertTrue(RaoResultBorderExchanges.canComputeItalianImport(network, crac));
+        assertEquals(BorderExchanges.computeItalianImport(network), RaoResultBorderExchanges.computeItalianImport(network, crac, raoResult), 1.);
+    }
+
+    @Test
+    void italianImportIsNotComputedWhenABorderIsNotMonitored() {
+        Set<FlowCnec> borderCnecs = network.getTieLineStream().skip(1).map(this::mockCnecWithLoadflowFlow).collect(Collectors.toSet());
+        when(crac.getFlowCnecs(preventiveState)).thenReturn(borderCnecs);
+
+        assertFalse(RaoResultBorderExchanges.canComputeItalianImport(network, crac));
+        assertThrows(CseInternalException.class, () -> RaoResultBorderExchanges.computeItalianImport(network, crac, raoResult));
+    }
+
+    @Test
+    void italianImportIsNotComputedFromMissingFlows() {
+        Set<FlowCnec> borderCnecs = network.getTieLineStream().map(this::mockCnecWithLoadflowFlow).collect(Collectors.toSet());
+        when(crac.getFlowCnecs(preventiveState)).thenReturn(borderCnecs);
+        when(raoResult.getFlow(any(), any(FlowCnec.class), any(), any())).thenReturn(Double.NaN);
+
+        assertTrue(RaoResultBorderExchanges.canComputeItalianImport(network, crac));
+        assertThrows(CseInternalException.class, () -> RaoResultBorderExchanges.computeItalianImport(network, crac, raoResult));
+    }
+
+    private FlowCnec mockCnecWithLoadflowFlow(TieLine tieLine) {
+        NetworkElement networkElement = mock(NetworkElement.class);
+        when(networkElement.getId()).thenReturn(tieLine.getId());
+        FlowCnec flowCnec = mock(FlowCnec.class);
+        when(flowCnec.getNetworkElement()).thenReturn(networkElement);
+        when(flowCnec.getMonitoredSides()).thenReturn(Set.of(TwoSides.TWO));
+        when(raoResult.getFlow(preventiveInstant, flowCnec, TwoSides.TWO, Unit.MEGAWATT)).thenReturn(tieLine.getTerminal2().getP());
+        return flowCnec;
+    }
+}
@@ -41,10 +41,7 @@ public final class BorderExchanges {
 
     public static double computeItalianImport(Network network) throws LoadflowComputationException {
         runLoadFlow(network);
-        BorderBasedCountryArea itArea = (BorderBasedCountryArea) new CountryAreaFactory(Country.IT).create(network);
-        return Stream.of(Country.FR, Country.AT, Country.CH, Country.SI)
-            .map(country -> ((BorderBasedCountryArea) new CountryAreaFactory(country).create(network)).getLeavingFlowToCountry(itArea))
-            .reduce(0., Double::sum);
+        return computeItalianImport(createCountryAreas(network));
     }
 
     public static Map<String, Double> computeCseBordersExchanges(Network network) throws LoadflowComputationException {
@@ -55,12 +52,44 @@ public final class BorderExchanges {
         if (withLoadflow) {
             runLoadFlow(network);
         }
-        Map<String, Double> borderExchanges = new HashMap<>();
-        Map<Country, BorderBasedCountryArea> countryAreaPerCountry = Stream.of(Country.FR, Country.AT, Country.CH, Country.SI, Country.IT, Country.DE)
+        return computeCseBordersExchanges(createCountryAreas(network));
+    }
+
+    public static Map<String, Double> computeCseCountriesBalances(Network network) throws LoadflowComputationException {
+        runLoadFlow(network);
+        return computeCseCountriesBalances(createCountryAreas(network));
+    }
+
+    /**
+     * Runs a single loadflow and computes Italian import, CSE borders exchanges and CSE countries balances on its
+     * results, building country areas only once.
+     */
+    public static BorderExchangesSnapshot computeSnapshot(Network network) throws LoadflowComputationException {
+        runLoadFlow(network);
+        Map<Country, BorderBasedCountryArea> countryAreaPerCountry = createCountryAreas(network);
+        return new BorderExchangesSnapshot(
+            computeItalianImport(countryAreaPerCountry),
+            computeCseBordersExchanges(countryAreaPerCountry),
+            computeCseCountriesBalances(countryAreaPerCountry)
+        );
+    }
+
+    private static Map<Country, BorderBasedCountryArea> createCountryAreas(Network network) {
+        return Stream.of(Country.FR, Country.AT, Country.CH, Country.SI, Country.IT, Country.DE)
             .collect(Collectors.toMap(
                 Function.identity(),
                 country -> (BorderBasedCountryArea) new CountryAreaFactory(country).create(network)
             ));
+    }
+
+    private static double computeItalianImport(Map<Country, BorderBasedCountryArea> countryAreaPerCountry) {
+        return Stream.of(Country.FR, Country.AT, Country.CH, Country.SI)
+            .map(country -> getBorderExchange(country, Country.IT, countryAreaPerCountry))
+            .reduce(0., Double::sum);
+    }
+
+    private static Map<String, Double> computeCseBordersExchanges(Map<Country, BorderBasedCountryArea> countryAreaPerCountry) {
+        Map<String, Double> borderExchanges = new HashMap<>();
         borderExchanges.put(IT_CH, getBorderExchange(Country.IT, Country.CH, countryAreaPerCountry));
         borderExchanges.put(IT_FR, getBorderExchange(Country.IT, Country.FR, countryAreaPerCountry));
         borderExchanges.put(IT_AT, getBorderExchange(Country.IT, Country.AT, countryAreaPerCountry));
@@ -75,15 +104,14 @@ public final class BorderExchanges {
         return countryAreaPerCountry.get(fromCountry).getLeavingFlowToCountry(countryAreaPerCountry.get(toCountry));
     }
 
-    public static Map<String, Double> computeCseCountriesBalances(Network network) throws LoadflowComputationException {
-        runLoadFlow(network);
+    private static Map<String, Double> computeCseCountriesBalances(Map<Country, BorderBasedCountryArea> countryAreaPerCountry) {
         Map<String, Double> countriesBalances = new HashMap<>();
-        countriesBalances.put("AT", new CountryAreaFactory(Country.AT).create(network).getNetPosition());
-        countriesBalances.put("CH", new CountryAreaFactory(Country.CH).create(network).getNetPosition());
-        countriesBalances.put("FR", new CountryAreaFactory(Country.FR).create(network).getNetPosition());
-        countriesBalances.put("SI", new CountryAreaFactory(Country.SI).create(network).getNetPosition());
-        countriesBalances.put("IT", new CountryAreaFactory(Country.IT).create(network).getNetPosition());
-        countriesBalances.put("DE", new CountryAreaFactory(Country.DE).create(network).getNetPosition());
+        countriesBalances.put("AT", countryAreaPerCountry.get(Country.AT).getNetPosition());
+        countriesBalances.put("CH", countryAreaPerCountry.get(Country.CH).getNetPosition());
+        countriesBalances.put("FR", countryAreaPerCountry.get(Country.FR).getNetPosition());
+        countriesBalances.put("SI", countryAreaPerCountry.get(Country.SI).getNetPosition());
+        countriesBalances.put("IT", countryAreaPerCountry.get(Country.IT).getNetPosition());
+        countriesBalances.put("DE", countryAreaPerCountry.get(Country.DE).getNetPosition());
         return countriesBalances;
     }
 
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.cse.computation;
+
+import java.util.Map;
+
+/**
+ * Italian import, CSE borders exchanges and CSE countries balances computed on the same loadflow results.
+ */
+public record BorderExchangesSnapshot(double italianImport,
+                                      Map<String, Double> cseBordersExchanges,
+                                      Map<String, Double> cseCountriesBalances) {
+}
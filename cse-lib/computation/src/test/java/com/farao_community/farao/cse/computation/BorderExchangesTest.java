@@ -56,4 +56,21 @@ class BorderExchangesTest {
         assertEquals(0, borderExchanges.get("SI"), TOLERANCE);
         assertEquals(700, borderExchanges.get("AT"), TOLERANCE);
     }
+
+    @Test
+    void testSnapshotMatchesSeparateComputations() {
+        String networkFileName = "20210901_2230_test_network.uct";
+        Network network = Network.read(networkFileName, getClass().getResourceAsStream(networkFileName));
+
+        BorderExchangesSnapshot snapshot = BorderExchanges.computeSnapshot(network);
+        assertEquals(6000, snapshot.italianImport(), TOLERANCE);
+        assertEquals(-2837, snapshot.cseBordersExchanges().get("IT-CH"), TOLERANCE);
+        assertEquals(-2463, snapshot.cseBordersExchanges().get("IT-FR"), TOLERANCE);
+        assertEquals(-699, snapshot.cseBordersExchanges().get("IT-AT"), TOLERANCE);
+        assertEquals(-37, snapshot.cseBordersExchanges().get("CH-FR"), TOLERANCE);
+        assertEquals(2500, snapshot.cseCountriesBalances().get("FR"), TOLERANCE);
+        assertEquals(-6000, snapshot.cseCountriesBalances().get("IT"), TOLERANCE);
+        assertEquals(700, snapshot.cseCountriesBalances().get("AT"), TOLERANCE);
+        assertEquals(BorderExchanges.computeCseBordersExchanges(network).keySet(), snapshot.cseBordersExchanges().keySet());
+    }
 }
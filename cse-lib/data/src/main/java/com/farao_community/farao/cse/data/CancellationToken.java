@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cancellation of a run, triggered by its hard interruption, shared by the import and export runners. Work in
+ * progress for the run, such as RAO requests or artifact uploads, registers the way to stop it: it is called as
+ * soon as the run is cancelled, or immediately when registered if the run already is.
+ */
+public class CancellationToken {
+    private final List<Runnable> cancellationCallbacks = new ArrayList<>();
+    private volatile boolean cancelled;
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void cancel() {
+        final List<Runnable> callbacks;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            callbacks = new ArrayList<>(cancellationCallbacks);
+            cancellationCallbacks.clear();
+        }
+        callbacks.forEach(Runnable::run);
+    }
+
+    /**
+     * Registers a callback called on cancellation, until the returned registration is closed.
+     */
+    public Registration onCancel(Runnable callback) {
+        synchronized (this) {
+            if (!cancelled) {
+                cancellationCallbacks.add(callback);
+                return () -> unregister(callback);
+            }
+        }
+        callback.run();
+        return () -> { };
+    }
+
+    private synchronized void unregister(Runnable callback) {
+        cancellationCallbacks.remove(callback);
+    }
+
+    @FunctionalInterface
+    public interface Registration extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
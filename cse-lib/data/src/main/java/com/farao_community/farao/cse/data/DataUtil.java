@@ -7,9 +7,7 @@
 
 package com.farao_community.farao.cse.data;
 
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
-import javax.xml.transform.stream.StreamSource;
 import java.io.InputStream;
 import java.util.Optional;
 import java.util.stream.Collector;
@@ -22,10 +20,7 @@ public final class DataUtil {
     }
 
     public static <T> T unmarshalFromInputStream(InputStream inputStream, Class<T> clazz) throws JAXBException {
-        return JAXBContext.newInstance(clazz)
-                .createUnmarshaller()
-                .unmarshal(new StreamSource(inputStream), clazz)
-                .getValue();
+        return JaxbContextRegistry.unmarshal(inputStream, clazz);
     }
 
     /**
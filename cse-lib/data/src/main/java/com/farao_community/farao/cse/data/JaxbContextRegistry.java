@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.cse.data;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of JAXB contexts, each one being created only once per bound class as contexts are thread-safe but
+ * expensive to build. Unmarshallers and marshallers are not thread-safe: they are pooled per thread and reused
+ * for successive calls.
+ */
+public final class JaxbContextRegistry {
+    private static final Map<Class<?>, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Unmarshaller>> UNMARSHALLERS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> MARSHALLERS = ThreadLocal.withInitial(HashMap::new);
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private JaxbContextRegistry() {
+        // Should not be instantiated
+    }
+
+    public static JAXBContext getContext(Class<?> clazz) throws JAXBException {
+        JAXBContext context = CONTEXTS.get(clazz);
+        if (context == null) {
+            context = JAXBContext.newInstance(clazz);
+            JAXBContext previousContext = CONTEXTS.putIfAbsent(clazz, context);
+            if (previousContext != null) {
+                context = previousContext;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Unmarshals the document read from the input stream through a StAX reader, which avoids building the
+     * intermediate SAX pipeline of stream sources.
+     */
+    public static <T> T unmarshal(InputStream inputStream, Class<T> clazz) throws JAXBException {
+        XMLStreamReader xmlStreamReader = null;
+        try {
+            xmlStreamReader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            return getUnmarshaller(clazz).unmarshal(xmlStreamReader, clazz).getValue();
+        } catch (XMLStreamException e) {
+            throw new JAXBException("Impossible to read XML document", e);
+        } finally {
+            closeQuietly(xmlStreamReader);
+        }
+    }
+
+    public static <T> void marshal(JAXBElement<T> element, Writer writer, boolean formattedOutput) throws JAXBException {
+        Marshaller marshaller = getMarshaller(element.getDeclaredType());
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formattedOutput);
+        marshaller.marshal(element, writer);
+    }
+
+    /**
+     * Marshals the document as UTF-8 bytes straight into the output stream, without going through an intermediate
+     * character buffer.
+     */
+    public static <T> void marshal(JAXBElement<T> element, OutputStream outputStream, boolean formattedOutput) throws JAXBException {
+        Marshaller marshaller = getMarshaller(element.getDeclaredType());
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formattedOutput);
+        marshaller.marshal(element, outputStream);
+    }
+
+    /**
+     * Marshals the document as UTF-8 bytes and returns a stream reading them from the marshalling buffer, which is
+     * not copied.
+     */
+    public static <T> InputStream marshalToInputStream(JAXBElement<T> element, boolean formattedOutput) throws JAXBException {
+        MarshallingBuffer marshallingBuffer = new MarshallingBuffer();
+        marshal(element, marshallingBuffer, formattedOutput);
+        return marshallingBuffer.toInputStream();
+    }
+
+    private static Unmarshaller getUnmarshaller(Class<?> clazz) throws JAXBException {
+        Map<Class<?>, Unmarshaller> threadUnmarshallers = UNMARSHALLERS.get();
+        Unmarshaller unmarshaller = threadUnmarshallers.get(clazz);
+        if (unmarshaller == null) {
+            unmarshaller = getContext(clazz).createUnmarshaller();
+            threadUnmarshallers.put(clazz, unmarshaller);
+        }
+        return unmarshaller;
+    }
+
+    private static Marshaller getMarshaller(Class<?> clazz) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = MARSHALLERS.get();
+        Marshaller marshaller = threadMarshallers.get(clazz);
+        if (marshaller == null) {
+            marshaller = getContext(clazz).createMarshaller();
+            threadMarshallers.put(clazz, marshaller);
+        }
+        return marshaller;
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+
+    private static void closeQuietly(XMLStreamReader xmlStreamReader) {
+        if (xmlStreamReader != null) {
+            try {
+                xmlStreamReader.close();
+            } catch (XMLStreamException e) {
+                // Nothing to do, the underlying stream is handled by the caller
+            }
+        }
+    }
+
+    private static final class MarshallingBuffer extends ByteArrayOutputStream {
+        private InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
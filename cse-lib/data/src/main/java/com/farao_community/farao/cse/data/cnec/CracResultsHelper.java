@@ -12,8 +12,6 @@ import com.powsybl.contingency.ContingencyElement;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.Substation;
-import com.powsybl.iidm.network.TwoSides;
-import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.Identifiable;
 import com.powsybl.openrao.data.crac.api.Instant;
@@ -50,6 +48,8 @@ public class CracResultsHelper {
     private final Crac crac;
     private final RaoResult raoResult;
     private final Network network;
+    private Map<String, List<BranchCnecCreationContext>> monitoredBranchesByContingencyId;
+    private FlowCnecResultTable flowCnecResultTable;
 
     public CracResultsHelper(CseCracCreationContext cseCracCreationContext, RaoResult result, Network network, Logger businessLogger) {
         this.businessLogger = businessLogger;
@@ -128,11 +128,22 @@ public class CracResultsHelper {
     }
 
     public List<? extends BranchCnecCreationContext> getMonitoredBranchesForOutage(String contingencyId) {
-        return cseCracCreationContext.getBranchCnecCreationContexts().stream()
-                .filter(ElementaryCreationContext::isImported)
-                .filter(branchCCC -> branchCCC.getContingencyId().orElse("").equals(contingencyId))
-                .toList();
+        if (monitoredBranchesByContingencyId == null) {
+            monitoredBranchesByContingencyId = indexMonitoredBranchesByContingencyId();
+        }
+        return Collections.unmodifiableList(monitoredBranchesByContingencyId.getOrDefault(contingencyId, Collections.emptyList()));
+    }
 
+    /**
+     * Imported branch CNEC creation contexts grouped by contingency ID, base case ones being under an empty ID.
+     * Built once so that looking up the CNECs of every outage does not go through all the creation contexts each time.
+     */
+    private Map<String, List<BranchCnecCreationContext>> indexMonitoredBranchesByContingencyId() {
+        Map<String, List<BranchCnecCreationContext>> index = new HashMap<>();
+        cseCracCreationContext.getBranchCnecCreationContexts().stream()
+                .filter(ElementaryCreationContext::isImported)
+                .forEach(branchCCC -> index.computeIfAbsent(branchCCC.getContingencyId().orElse(""), id -> new ArrayList<>()).add(branchCCC));
+        return index;
     }
 
     public List<CnecPreventive> getPreventiveCnecs() {
@@ -228,35 +239,15 @@ public class CracResultsHelper {
         return nativeBranch.getFrom() + " " + nativeBranch.getTo() + " " + nativeBranch.getSuffix();
     }
 
+    /**
+     * Flow and threshold of the CNEC after optimization of the given instant, or before optimization when the instant is
+     * null. All the flows are read at once from the RAO result on the first call.
+     */
     public FlowCnecResult getFlowCnecResultInAmpere(FlowCnec flowCnec, Instant optimizedInstant) {
-        TwoSides monitoredSide = flowCnec.getMonitoredSides().contains(TwoSides.ONE) ? TwoSides.ONE : TwoSides.TWO;
-        Optional<Double> upperBound = flowCnec.getUpperBound(monitoredSide, Unit.AMPERE);
-        Optional<Double> lowerBound = flowCnec.getLowerBound(monitoredSide, Unit.AMPERE);
-        double flow;
-        double iMax;
-        if (upperBound.isPresent()) {
-            if (lowerBound.isPresent()) {
-                double flowTemp = raoResult.getFlow(optimizedInstant, flowCnec, monitoredSide, Unit.AMPERE);
-                flow = Math.abs(flowTemp);
-                if (flowTemp >= 0) {
-                    iMax = upperBound.get();
-                } else {
-                    iMax = Math.abs(lowerBound.get());
-                }
-            } else {
-                flow = raoResult.getFlow(optimizedInstant, flowCnec, monitoredSide, Unit.AMPERE);
-                iMax = upperBound.get();
-            }
-        } else {
-            if (lowerBound.isPresent()) {
-                // Case where it is limited in opposite direction so the flow is inverted
-                flow = -raoResult.getFlow(optimizedInstant, flowCnec, monitoredSide, Unit.AMPERE);
-                iMax = Math.abs(lowerBound.get());
-            } else {
-                throw new CseDataException(String.format("Cnec %s is defined with no thresholds", flowCnec.getName()));
-            }
+        if (flowCnecResultTable == null) {
+            flowCnecResultTable = FlowCnecResultTable.build(crac, raoResult);
         }
-        return new FlowCnecResult(flow, iMax);
+        return flowCnecResultTable.getFlowCnecResultInAmpere(flowCnec, optimizedInstant);
     }
 
     public String getAreaFrom(ContingencyElement contingencyElement) {
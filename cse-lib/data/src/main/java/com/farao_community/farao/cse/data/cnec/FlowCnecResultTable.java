@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.data.cnec;
+
+import com.farao_community.farao.cse.data.CseDataException;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flows and thresholds in ampere of all the flow CNECs of a CRAC, read once from the RAO result and stored in
+ * primitive arrays indexed by CNEC and optimization slot: before optimization, after preventive remedial actions and
+ * after curative remedial actions.
+ * <p>
+ * Only the slots read when building result documents are filled: initial and after PRA flows for preventive and
+ * outage CNECs, after PRA flows for auto CNECs and after CRA flows for curative CNECs. Other slots, and the ones the
+ * RAO result could not provide, are read from the RAO result on demand.
+ */
+public final class FlowCnecResultTable {
+    private static final int INITIAL = 0;
+    private static final int AFTER_PRA = 1;
+    private static final int AFTER_CRA = 2;
+    private static final int SLOT_COUNT = 3;
+
+    private final Crac crac;
+    private final RaoResult raoResult;
+    private final Map<FlowCnec, Integer> cnecIndexes;
+    private final double[] flows;
+    private final double[] iMaxes;
+    private final BitSet filledSlots;
+
+    private FlowCnecResultTable(Crac crac, RaoResult raoResult, Map<FlowCnec, Integer> cnecIndexes) {
+        this.crac = crac;
+        this.raoResult = raoResult;
+        this.cnecIndexes = cnecIndexes;
+        this.flows = new double[cnecIndexes.size() * SLOT_COUNT];
+        this.iMaxes = new double[cnecIndexes.size() * SLOT_COUNT];
+        this.filledSlots = new BitSet(cnecIndexes.size() * SLOT_COUNT);
+    }
+
+    public static FlowCnecResultTable build(Crac crac, RaoResult raoResult) {
+        List<FlowCnec> flowCnecs = List.copyOf(crac.getFlowCnecs());
+        Map<FlowCnec, Integer> cnecIndexes = new IdentityHashMap<>(flowCnecs.size());
+        for (int i = 0; i < flowCnecs.size(); i++) {
+            cnecIndexes.put(flowCnecs.get(i), i);
+        }
+        FlowCnecResultTable table = new FlowCnecResultTable(crac, raoResult, cnecIndexes);
+        for (int i = 0; i < flowCnecs.size(); i++) {
+            table.fill(i, flowCnecs.get(i));
+        }
+        return table;
+    }
+
+    /**
+     * Flow and threshold of the CNEC after optimization of the given instant, or before optimization when the instant is
+     * null.
+     */
+    public FlowCnecResult getFlowCnecResultInAmpere(FlowCnec flowCnec, Instant optimizedInstant) {
+        Integer cnecIndex = cnecIndexes.get(flowCnec);
+        int slot = getSlot(optimizedInstant);
+        if (cnecIndex == null || slot < 0) {
+            return computeFlowCnecResultInAmpere(raoResult, flowCnec, optimizedInstant);
+        }
+        int position = cnecIndex * SLOT_COUNT + slot;
+        if (!filledSlots.get(position)) {
+            return computeFlowCnecResultInAmpere(raoResult, flowCnec, optimizedInstant);
+        }
+        return new FlowCnecResult(flows[position], iMaxes[position]);
+    }
+
+    private void fill(int cnecIndex, FlowCnec flowCnec) {
+        TwoSides monitoredSide = getMonitoredSide(flowCnec);
+        Double upperBound = flowCnec.getUpperBound(monitoredSide, Unit.AMPERE).orElse(null);
+        Double lowerBound = flowCnec.getLowerBound(monitoredSide, Unit.AMPERE).orElse(null);
+        if (upperBound == null && lowerBound == null) {
+            // Left empty so that the missing thresholds are reported when the CNEC is read
+            return;
+        }
+        switch (flowCnec.getState().getInstant().getKind()) {
+            case PREVENTIVE, OUTAGE -> {
+                fillSlot(cnecIndex, INITIAL, flowCnec, null, monitoredSide, upperBound, lowerBound);
+                fillSlot(cnecIndex, AFTER_PRA, flowCnec, crac.getPreventiveInstant(), monitoredSide, upperBound, lowerBound);
+            }
+            case AUTO -> fillSlot(cnecIndex, AFTER_PRA, flowCnec, crac.getPreventiveInstant(), monitoredSide, upperBound, lowerBound);
+            case CURATIVE -> fillSlot(cnecIndex, AFTER_CRA, flowCnec, crac.getLastInstant(), monitoredSide, upperBound, lowerBound);
+        }
+    }
+
+    private void fillSlot(int cnecIndex, int slot, FlowCnec flowCnec, Instant optimizedInstant, TwoSides monitoredSide, Double upperBound, Double lowerBound) {
+        double rawFlow;
+        try {
+            rawFlow = raoResult.getFlow(optimizedInstant, flowCnec, monitoredSide, Unit.AMPERE);
+        } catch (RuntimeException e) {
+            // Left empty so that the RAO result error is raised only if the flow is actually read
+            return;
+        }
+        int position = cnecIndex * SLOT_COUNT + slot;
+        flows[position] = getFlowInAmpere(rawFlow, upperBound, lowerBound);
+        iMaxes[position] = getIMaxInAmpere(rawFlow, upperBound, lowerBound);
+        filledSlots.set(position);
+    }
+
+    private int getSlot(Instant optimizedInstant) {
+        if (optimizedInstant == null) {
+            return INITIAL;
+        } else if (optimizedInstant.isPreventive()) {
+            return AFTER_PRA;
+        } else if (optimizedInstant.equals(crac.getLastInstant())) {
+            return AFTER_CRA;
+        }
+        return -1;
+    }
+
+    private static TwoSides getMonitoredSide(FlowCnec flowCnec) {
+        return flowCnec.getMonitoredSides().contains(TwoSides.ONE) ? TwoSides.ONE : TwoSides.TWO;
+    }
+
+    private static FlowCnecResult computeFlowCnecResultInAmpere(RaoResult raoResult, FlowCnec flowCnec, Instant optimizedInstant) {
+        TwoSides monitoredSide = getMonitoredSide(flowCnec);
+        Double upperBound = flowCnec.getUpperBound(monitoredSide, Unit.AMPERE).orElse(null);
+        Double lowerBound = flowCnec.getLowerBound(monitoredSide, Unit.AMPERE).orElse(null);
+        if (upperBound == null && lowerBound == null) {
+            throw new CseDataException(String.format("Cnec %s is defined with no thresholds", flowCnec.getName()));
+        }
+        double rawFlow = raoResult.getFlow(optimizedInstant, flowCnec, monitoredSide, Unit.AMPERE);
+        return new FlowCnecResult(getFlowInAmpere(rawFlow, upperBound, lowerBound), getIMaxInAmpere(rawFlow, upperBound, lowerBound));
+    }
+
+    private static double getFlowInAmpere(double rawFlow, Double upperBound, Double lowerBound) {
+        if (upperBound == null) {
+            // Case where it is limited in opposite direction so the flow is inverted
+            return -rawFlow;
+        }
+        return lowerBound != null ? Math.abs(rawFlow) : rawFlow;
+    }
+
+    private static double getIMaxInAmpere(double rawFlow, Double upperBound, Double lowerBound) {
+        if (upperBound == null) {
+            return Math.abs(lowerBound);
+        } else if (lowerBound == null) {
+            return upperBound;
+        }
+        return rawFlow >= 0 ? upperBound : Math.abs(lowerBound);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CancellationTokenTest {
+
+    @Test
+    void callbacksAreCalledOnceOnCancellation() {
+        CancellationToken cancellationToken = new CancellationToken();
+        AtomicInteger calls = new AtomicInteger();
+        cancellationToken.onCancel(calls::incrementAndGet);
+
+        assertFalse(cancellationToken.isCancelled());
+        cancellationToken.cancel();
+        cancellationToken.cancel();
+
+        assertTrue(cancellationToken.isCancelled());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void callbackIsCalledImmediatelyWhenAlreadyCancelled() {
+        CancellationToken cancellationToken = new CancellationToken();
+        AtomicInteger calls = new AtomicInteger();
+        cancellationToken.cancel();
+
+        cancellationToken.onCancel(calls::incrementAndGet);
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void closedRegistrationIsNotCalled() {
+        CancellationToken cancellationToken = new CancellationToken();
+        AtomicInteger calls = new AtomicInteger();
+        try (CancellationToken.Registration ignored = cancellationToken.onCancel(calls::incrementAndGet)) {
+            assertFalse(cancellationToken.isCancelled());
+        }
+
+        cancellationToken.cancel();
+
+        assertEquals(0, calls.get());
+    }
+}
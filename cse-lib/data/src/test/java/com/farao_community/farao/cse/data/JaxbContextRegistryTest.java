@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.cse.data;
+
+import com.farao_community.farao.cse.data.xsd.NTCAnnualDocument;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.namespace.QName;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JaxbContextRegistryTest {
+
+    @Test
+    void contextIsCreatedOnlyOnce() throws JAXBException {
+        assertSame(JaxbContextRegistry.getContext(NTCAnnualDocument.class), JaxbContextRegistry.getContext(NTCAnnualDocument.class));
+    }
+
+    @Test
+    void documentCanBeUnmarshalledAndMarshalledBack() throws JAXBException, IOException {
+        NTCAnnualDocument ntcAnnualDocument;
+        try (InputStream inputStream = getClass().getResourceAsStream("ntc/2021_2Dp_NTC_annual_CSE1.xml")) {
+            ntcAnnualDocument = JaxbContextRegistry.unmarshal(inputStream, NTCAnnualDocument.class);
+        }
+        assertNotNull(ntcAnnualDocument);
+
+        StringWriter stringWriter = new StringWriter();
+        JaxbContextRegistry.marshal(new JAXBElement<>(new QName("NTC_annual_document"), NTCAnnualDocument.class, ntcAnnualDocument), stringWriter, true);
+        assertTrue(stringWriter.toString().contains("NTC_annual_document"));
+
+        // Unmarshallers are reused by the thread for successive documents
+        NTCAnnualDocument reimportedDocument = JaxbContextRegistry.unmarshal(
+            new ByteArrayInputStream(stringWriter.toString().getBytes(StandardCharsets.UTF_8)), NTCAnnualDocument.class);
+        assertNotNull(reimportedDocument);
+    }
+
+    @Test
+    void invalidDocumentThrowsJaxbException() {
+        InputStream inputStream = new ByteArrayInputStream("not an xml document".getBytes(StandardCharsets.UTF_8));
+        assertThrows(JAXBException.class, () -> JaxbContextRegistry.unmarshal(inputStream, NTCAnnualDocument.class));
+    }
+}
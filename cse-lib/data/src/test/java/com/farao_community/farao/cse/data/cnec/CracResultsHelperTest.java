@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -150,6 +151,47 @@ class CracResultsHelperTest {
                 .warn("Couldn't find flowCnec with native id : {}", "nativeId");
     }
 
+    @Test
+    void monitoredBranchesAreIndexedOnceByContingency() {
+        final CseCracCreationContext mockedContext = Mockito.mock(CseCracCreationContext.class);
+        final CracResultsHelper helper = new CracResultsHelper(mockedContext, null, null, Mockito.mock(Logger.class));
+        final BranchCnecCreationContext outage1Context = mockBranchCnecCreationContext(true, Optional.of("outage_1"));
+        final BranchCnecCreationContext outage2Context = mockBranchCnecCreationContext(true, Optional.of("outage_2"));
+        final BranchCnecCreationContext notImportedContext = mockBranchCnecCreationContext(false, Optional.of("outage_1"));
+        final BranchCnecCreationContext baseCaseContext = mockBranchCnecCreationContext(true, Optional.empty());
+        whenReturningBranchCnecCreationContexts(mockedContext, List.of(outage1Context, outage2Context, notImportedContext, baseCaseContext));
+
+        assertEquals(List.of(outage1Context), helper.getMonitoredBranchesForOutage("outage_1"));
+        assertEquals(List.of(outage2Context), helper.getMonitoredBranchesForOutage("outage_2"));
+        assertEquals(List.of(baseCaseContext), helper.getMonitoredBranchesForOutage(""));
+        Assertions.assertTrue(helper.getMonitoredBranchesForOutage("unknown").isEmpty());
+        verify(mockedContext, times(1)).getBranchCnecCreationContexts();
+    }
+
+    @Test
+    void flowCnecResultsAreComputedOncePerInstant() throws IOException {
+        CracResultsHelper cracResultsHelper = getCracResultsHelper("pst_and_topo/crac.xml", "pst_and_topo/network.uct", "pst_and_topo/raoResult.json");
+        RaoResult raoResult = Mockito.spy(cracResultsHelper.getRaoResult());
+        CracResultsHelper spiedResultsHelper = new CracResultsHelper(cracResultsHelper.getCseCracCreationContext(), raoResult, null, Mockito.mock(Logger.class));
+        Crac crac = cracResultsHelper.getCrac();
+        FlowCnec branchCnec = crac.getFlowCnec("French line 1 - FFR1AA1 ->FFR2AA1   - outage_1 - outage");
+
+        FlowCnecResult afterPra = spiedResultsHelper.getFlowCnecResultInAmpere(branchCnec, crac.getPreventiveInstant());
+        FlowCnecResult beforeOptimisation = spiedResultsHelper.getFlowCnecResultInAmpere(branchCnec, null);
+        assertSame(afterPra, spiedResultsHelper.getFlowCnecResultInAmpere(branchCnec, crac.getPreventiveInstant()));
+        assertSame(beforeOptimisation, spiedResultsHelper.getFlowCnecResultInAmpere(branchCnec, null));
+        assertEquals(50, afterPra.getFlow(), 0.1);
+        verify(raoResult, times(1)).getFlow(Mockito.eq(crac.getPreventiveInstant()), Mockito.eq(branchCnec), Mockito.any(), Mockito.any());
+        verify(raoResult, times(1)).getFlow(Mockito.isNull(), Mockito.eq(branchCnec), Mockito.any(), Mockito.any());
+    }
+
+    private static BranchCnecCreationContext mockBranchCnecCreationContext(boolean imported, Optional<String> contingencyId) {
+        final BranchCnecCreationContext branchCnecContext = Mockito.mock(BranchCnecCreationContext.class);
+        Mockito.when(branchCnecContext.isImported()).thenReturn(imported);
+        Mockito.when(branchCnecContext.getContingencyId()).thenReturn(contingencyId);
+        return branchCnecContext;
+    }
+
     private static void whenReturningBranchCnecCreationContexts(CseCracCreationContext mockedContext,
                                                                 List<BranchCnecCreationContext> mockedList) {
         Mockito.when(mockedContext.getBranchCnecCreationContexts())
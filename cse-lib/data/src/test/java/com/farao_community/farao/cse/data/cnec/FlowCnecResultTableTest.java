@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.data.cnec;
+
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.InstantKind;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class FlowCnecResultTableTest {
+    private static final String OUTAGE_CNEC_ID = "French line 1 - FFR1AA1 ->FFR2AA1   - outage_1 - outage";
+
+    private Crac crac;
+    private RaoResult raoResult;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Network network = Network.read("pst_and_topo/network.uct", getClass().getResourceAsStream("pst_and_topo/network.uct"));
+        crac = Crac.readWithContext("pst_and_topo/crac.xml", getClass().getResourceAsStream("pst_and_topo/crac.xml"), network, new CracCreationParameters()).getCrac();
+        raoResult = Mockito.spy(RaoResult.read(getClass().getResourceAsStream("pst_and_topo/raoResult.json"), crac));
+    }
+
+    @Test
+    void outageCnecFlowsAreReadOnceFromRaoResult() {
+        FlowCnecResultTable table = FlowCnecResultTable.build(crac, raoResult);
+        FlowCnec outageCnec = crac.getFlowCnec(OUTAGE_CNEC_ID);
+
+        FlowCnecResult afterPra = table.getFlowCnecResultInAmpere(outageCnec, crac.getPreventiveInstant());
+        assertEquals(50, afterPra.getFlow(), .1);
+        assertEquals(4318, afterPra.getiMax(), .1);
+        table.getFlowCnecResultInAmpere(outageCnec, crac.getPreventiveInstant());
+        table.getFlowCnecResultInAmpere(outageCnec, null);
+        table.getFlowCnecResultInAmpere(outageCnec, null);
+
+        verify(raoResult, times(1)).getFlow(eq(crac.getPreventiveInstant()), eq(outageCnec), any(), eq(Unit.AMPERE));
+        verify(raoResult, times(1)).getFlow(isNull(), eq(outageCnec), any(), eq(Unit.AMPERE));
+    }
+
+    @Test
+    void curativeCnecWithoutFlowKeepsItsThreshold() {
+        FlowCnecResultTable table = FlowCnecResultTable.build(crac, raoResult);
+        FlowCnec curativeCnec = crac.getFlowCnecs().stream()
+            .filter(flowCnec -> flowCnec.getName().equals("French line 1"))
+            .filter(flowCnec -> flowCnec.getState().getInstant().getKind() == InstantKind.CURATIVE)
+            .filter(flowCnec -> flowCnec.getState().getContingency().map(Contingency::getId).orElse("").equals("outage_1"))
+            .findFirst()
+            .orElseThrow();
+
+        FlowCnecResult afterCra = table.getFlowCnecResultInAmpere(curativeCnec, crac.getLastInstant());
+        assertEquals(Double.NaN, afterCra.getFlow(), .1);
+        assertEquals(3099, afterCra.getiMax(), .1);
+    }
+}
@@ -7,6 +7,7 @@
 
 package com.farao_community.farao.cse.data.ttc_rao;
 
+import com.farao_community.farao.cse.data.JaxbContextRegistry;
 import com.farao_community.farao.cse.data.cnec.CracResultsHelper;
 import com.farao_community.farao.cse.data.xsd.ttc_rao.*;
 
@@ -20,9 +21,12 @@ import org.mockito.Mockito;
 import org.slf4j.Logger;
 
 import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -66,6 +70,18 @@ class TtcRaoTest {
         checkGeneratedXmlMatchesExpectedXml(cracResultsHelper, "expected-simple-secure-cse-rao-result.xml");
     }
 
+    @Test
+    void testCseRaoResultMarshalledInStreamMatchesExpectedXml() throws JAXBException, IOException {
+        CracResultsHelper cracResultsHelper = getCracResultsHelper("raoResult-unsecure.json");
+        CseRaoResult cseRaoResult = TtcRao.generate(OffsetDateTime.parse("2022-05-06T16:30Z"), cracResultsHelper, Collections.emptyMap());
+
+        String expectedTtcResultXml = new BufferedReader(new InputStreamReader(Objects.requireNonNull(getClass().getResourceAsStream("expected-simple-unsecure-cse-rao-result.xml")), StandardCharsets.UTF_8))
+            .lines().collect(Collectors.joining("\n"));
+        try (InputStream is = JaxbContextRegistry.marshalToInputStream(new JAXBElement<>(new QName("CseRaoResult"), CseRaoResult.class, cseRaoResult), true)) {
+            assertEquals(expectedTtcResultXml, new String(is.readAllBytes(), StandardCharsets.UTF_8).trim());
+        }
+    }
+
     @Test
     void testUnsecureCseRaoResultGeneration() throws JAXBException, IOException {
         CracResultsHelper cracResultsHelper = getCracResultsHelper("raoResult-unsecure.json");
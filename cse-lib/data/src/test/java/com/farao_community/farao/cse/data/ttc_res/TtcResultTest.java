@@ -7,6 +7,7 @@
 
 package com.farao_community.farao.cse.data.ttc_res;
 
+import com.farao_community.farao.cse.data.JaxbContextRegistry;
 import com.farao_community.farao.cse.data.cnec.CracResultsHelper;
 import com.farao_community.farao.cse.data.xsd.ttc_res.Timestamp;
 import com.powsybl.openrao.data.crac.api.Crac;
@@ -22,10 +23,13 @@ import org.mockito.Mockito;
 import org.slf4j.Logger;
 
 import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
 import java.io.*;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -114,6 +118,18 @@ class TtcResultTest {
         Assertions.assertEquals(expectedTtcResultXml, ttcResultXml);
     }
 
+    @Test
+    void ttcResultMarshalledInStreamMatchesExpectedXml() throws JAXBException, IOException {
+        TtcResult.ProcessData processData = initProcessData(LimitingCause.CRITICAL_BRANCH, 4200, 3925);
+        Timestamp ttcResults = TtcResult.generate(ttcFiles, processData, cracResultsHelper, Collections.emptyMap(), Collections.emptyMap());
+
+        String expectedTtcResultXml = new BufferedReader(new InputStreamReader(Objects.requireNonNull(getClass().getResourceAsStream("expected_ttc_result.xml")), StandardCharsets.UTF_8))
+            .lines().collect(Collectors.joining("\n"));
+        try (InputStream is = JaxbContextRegistry.marshalToInputStream(new JAXBElement<>(new QName("Timestamp"), Timestamp.class, ttcResults), true)) {
+            Assertions.assertEquals(expectedTtcResultXml, new String(is.readAllBytes(), StandardCharsets.UTF_8).trim());
+        }
+    }
+
     @Test
     void testTtcAndMniiValuesForGlskLimitationWithPositiveValues() {
         TtcResult.ProcessData processData = initProcessData(LimitingCause.GLSK_LIMITATION, 1200, 700);
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.cse.network_processing;
+
+import com.powsybl.commons.datasource.MemDataSource;
+import com.powsybl.iidm.network.Network;
+import org.slf4j.MDC;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exports networks as streams that are written on the fly by a writer thread, through a pipe whose buffer
+ * bounds the amount of serialized network held in memory, instead of serializing the whole network in memory
+ * before it gets read. Writer threads are taken from a bounded pool, so streams should only be exported when
+ * they are about to be read.
+ * <p>
+ * Any failure of the export, errors included, is reported to the reader when it reaches the end of the stream,
+ * so that a truncated network is never read as a complete one.
+ */
+public final class NetworkStreamExporter {
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    private static final int WRITER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final ExecutorService WRITER_EXECUTOR = Executors.newFixedThreadPool(WRITER_THREADS, new WriterThreadFactory());
+
+    private NetworkStreamExporter() {
+        // Should not be instantiated
+    }
+
+    public static InputStream export(Network network, String format) throws IOException {
+        return export(network, format, DEFAULT_BUFFER_SIZE);
+    }
+
+    public static InputStream export(Network network, String format, int bufferSize) throws IOException {
+        return export(network, format, bufferSize, WRITER_EXECUTOR);
+    }
+
+    static InputStream export(Network network, String format, int bufferSize, Executor writerExecutor) throws IOException {
+        final PipedInputStream pipedInputStream = new PipedInputStream(bufferSize);
+        final PipedOutputStream pipedOutputStream = new PipedOutputStream(pipedInputStream);
+        final ExportedNetworkInputStream exportedNetworkInputStream = new ExportedNetworkInputStream(pipedInputStream, network.getId());
+        final Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        try {
+            writerExecutor.execute(() -> {
+                if (contextMap != null) {
+                    MDC.setContextMap(contextMap);
+                }
+                try {
+                    network.write(format, new Properties(), new PipedDataSource(pipedOutputStream));
+                } catch (Throwable e) { // NOSONAR errors must also be reported to the reader
+                    exportedNetworkInputStream.exportFailure = e;
+                } finally {
+                    closeQuietly(pipedOutputStream);
+                    MDC.clear();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            closeQuietly(pipedOutputStream);
+            throw new IOException(String.format("Export of network %s could not be started", network.getId()), e);
+        }
+        return exportedNetworkInputStream;
+    }
+
+    private static void closeQuietly(OutputStream outputStream) {
+        try {
+            outputStream.close();
+        } catch (IOException e) {
+            // Nothing to do, the reader side has already been closed
+        }
+    }
+
+    /**
+     * Data source redirecting the single file written by network exporters to the pipe. The pipe is only closed
+     * once the export is over, as exporters may close their stream before the end of the export.
+     */
+    private static final class PipedDataSource extends MemDataSource {
+        private final OutputStream pipedOutputStream;
+
+        private PipedDataSource(OutputStream pipedOutputStream) {
+            this.pipedOutputStream = pipedOutputStream;
+        }
+
+        @Override
+        public OutputStream newOutputStream(String fileName, boolean append) {
+            return new FilterOutputStream(pipedOutputStream) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+        }
+    }
+
+    private static final class ExportedNetworkInputStream extends FilterInputStream {
+        private final String networkId;
+        private volatile Throwable exportFailure;
+
+        private ExportedNetworkInputStream(InputStream in, String networkId) {
+            super(in);
+            this.networkId = networkId;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return checkEndOfStream(super.read());
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return checkEndOfStream(super.read(b, off, len));
+        }
+
+        private int checkEndOfStream(int result) throws IOException {
+            if (result == -1 && exportFailure != null) {
+                throw new IOException(String.format("Export of network %s failed", networkId), exportFailure);
+            }
+            return result;
+        }
+    }
+
+    private static final class WriterThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCounter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "network-export-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -6,6 +6,7 @@
  */
 package com.farao_community.farao.cse.network_processing.busbar_change;
 
+import com.farao_community.farao.cse.data.JaxbContextRegistry;
 import com.powsybl.iidm.network.Bus;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.commons.OpenRaoException;
@@ -18,12 +19,10 @@ import com.powsybl.openrao.data.crac.io.cse.xsd.CRACDocumentType;
 import com.powsybl.openrao.data.crac.io.cse.xsd.TCRACSeries;
 import com.powsybl.openrao.data.crac.io.cse.xsd.TRemedialAction;
 import com.powsybl.openrao.data.crac.io.cse.xsd.TRemedialActions;
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.xml.transform.stream.StreamSource;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -52,10 +51,7 @@ public final class BusBarChangePreProcessor {
 
     private static CRACDocumentType importNativeCrac(InputStream inputStream) {
         try {
-            return JAXBContext.newInstance(CRACDocumentType.class)
-                    .createUnmarshaller()
-                    .unmarshal(new StreamSource(inputStream), CRACDocumentType.class)
-                    .getValue();
+            return JaxbContextRegistry.unmarshal(inputStream, CRACDocumentType.class);
         } catch (JAXBException e) {
             throw new OpenRaoException(e);
         }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.network_processing.pra_application;
+
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.HvdcLine;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.PhaseTapChanger;
+import com.powsybl.iidm.network.Switch;
+import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds locally the network with preventive remedial actions produced by the RAO, from the network sent to the RAO
+ * and its result, instead of downloading and parsing the one it has uploaded.
+ */
+public final class PraApplier {
+    private static final double SET_POINT_TOLERANCE = 1e-3;
+
+    private PraApplier() {
+        // utility class
+    }
+
+    /**
+     * Applies on the working variant of the network the preventive network actions activated by the RAO and the
+     * optimized set points of its preventive range actions, as the RAO does on the network it uploads.
+     */
+    public static void applyPreventiveRemedialActions(Network network, Crac crac, RaoResult raoResult) {
+        State preventiveState = crac.getPreventiveState();
+        raoResult.getActivatedNetworkActionsDuringState(preventiveState).forEach(networkAction -> networkAction.apply(network));
+        raoResult.getActivatedRangeActionsDuringState(preventiveState).forEach(rangeAction -> rangeAction.apply(network, raoResult.getOptimizedSetPointOnState(preventiveState, rangeAction)));
+    }
+
+    /**
+     * Lists the differences, on the elements remedial actions can act on, between the network with preventive
+     * remedial actions uploaded by the RAO and the one rebuilt locally. No difference means both networks can be used
+     * indifferently.
+     */
+    public static List<String> findDifferences(Network expectedNetwork, Network actualNetwork) {
+        List<String> differences = new ArrayList<>();
+        compare(differences, expectedNetwork.getSwitchStream(), actualNetwork::getSwitch, "open state", Switch::isOpen);
+        compare(differences, expectedNetwork.getLineStream(), actualNetwork::getLine, "connection state", PraApplier::getConnectionState);
+        compare(differences, expectedNetwork.getTwoWindingsTransformerStream(), actualNetwork::getTwoWindingsTransformer, "connection state", PraApplier::getConnectionState);
+        compare(differences, expectedNetwork.getTwoWindingsTransformerStream().filter(TwoWindingsTransformer::hasPhaseTapChanger), actualNetwork::getTwoWindingsTransformer, "tap position",
+            transformer -> transformer.getOptionalPhaseTapChanger().map(PhaseTapChanger::getTapPosition).orElse(null));
+        compareSetPoints(differences, expectedNetwork.getGeneratorStream(), actualNetwork::getGenerator, Generator::getTargetP);
+        compareSetPoints(differences, expectedNetwork.getLoadStream(), actualNetwork::getLoad, Load::getP0);
+        compareSetPoints(differences, expectedNetwork.getHvdcLineStream(), actualNetwork::getHvdcLine, HvdcLine::getActivePowerSetpoint);
+        return differences;
+    }
+
+    private static List<Boolean> getConnectionState(Branch<?> branch) {
+        return List.of(branch.getTerminal1().isConnected(), branch.getTerminal2().isConnected());
+    }
+
+    private static <I extends Identifiable<I>> void compare(List<String> differences, Stream<I> expectedElements, Function<String, I> actualElementGetter, String property, Function<I, Object> propertyGetter) {
+        expectedElements.forEach(expectedElement -> {
+            I actualElement = actualElementGetter.apply(expectedElement.getId());
+            if (actualElement == null) {
+                differences.add(String.format("%s is missing", expectedElement.getId()));
+            } else if (!Objects.equals(propertyGetter.apply(expectedElement), propertyGetter.apply(actualElement))) {
+                differences.add(String.format("%s of %s is %s instead of %s", property, expectedElement.getId(), propertyGetter.apply(actualElement), propertyGetter.apply(expectedElement)));
+            }
+        });
+    }
+
+    private static <I extends Identifiable<I>> void compareSetPoints(List<String> differences, Stream<I> expectedElements, Function<String, I> actualElementGetter, Function<I, Double> setPointGetter) {
+        expectedElements.forEach(expectedElement -> {
+            I actualElement = actualElementGetter.apply(expectedElement.getId());
+            if (actualElement == null) {
+                differences.add(String.format("%s is missing", expectedElement.getId()));
+            } else if (Math.abs(setPointGetter.apply(expectedElement) - setPointGetter.apply(actualElement)) > SET_POINT_TOLERANCE) {
+                differences.add(String.format("set point of %s is %s instead of %s", expectedElement.getId(), setPointGetter.apply(actualElement), setPointGetter.apply(expectedElement)));
+            }
+        });
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.network_processing;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.MemDataSource;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+class NetworkStreamExporterTest {
+
+    @Test
+    void streamedExportIsIdenticalToInMemoryExport() throws IOException {
+        String networkFile = "ucte_pst_change/pst_initially_out_of_range.uct";
+        Network network = Network.read(networkFile, getClass().getResourceAsStream(networkFile));
+        MemDataSource memDataSource = new MemDataSource();
+        network.write("UCTE", new Properties(), memDataSource);
+        byte[] expectedContent;
+        try (InputStream is = memDataSource.newInputStream("", "uct")) {
+            expectedContent = is.readAllBytes();
+        }
+
+        // Buffer smaller than the exported network, so that writer and reader have to alternate
+        try (InputStream is = NetworkStreamExporter.export(network, "UCTE", 64)) {
+            assertArrayEquals(expectedContent, is.readAllBytes());
+        }
+    }
+
+    @Test
+    void exportFailureIsReportedToReader() throws IOException {
+        Network network = Mockito.mock(Network.class);
+        Mockito.when(network.getId()).thenReturn("network");
+        Mockito.doThrow(new PowsyblException("Export failed")).when(network).write(anyString(), any(Properties.class), any(DataSource.class));
+
+        try (InputStream is = NetworkStreamExporter.export(network, "UCTE")) {
+            IOException exception = assertThrows(IOException.class, is::readAllBytes);
+            assertEquals("Export of network network failed", exception.getMessage());
+        }
+    }
+
+    @Test
+    void exportErrorIsReportedToReader() throws IOException {
+        Network network = Mockito.mock(Network.class);
+        Mockito.when(network.getId()).thenReturn("network");
+        Mockito.doThrow(new StackOverflowError()).when(network).write(anyString(), any(Properties.class), any(DataSource.class));
+
+        try (InputStream is = NetworkStreamExporter.export(network, "UCTE")) {
+            IOException exception = assertThrows(IOException.class, is::readAllBytes);
+            assertInstanceOf(StackOverflowError.class, exception.getCause());
+        }
+    }
+
+    @Test
+    void rejectedExportIsReportedToCaller() {
+        Network network = Mockito.mock(Network.class);
+        Mockito.when(network.getId()).thenReturn("network");
+        Executor rejectingExecutor = runnable -> {
+            throw new RejectedExecutionException();
+        };
+
+        assertThrows(IOException.class, () -> NetworkStreamExporter.export(network, "UCTE", 64, rejectingExecutor));
+    }
+}
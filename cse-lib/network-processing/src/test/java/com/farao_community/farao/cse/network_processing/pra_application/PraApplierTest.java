@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.cse.network_processing.pra_application;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PraApplierTest {
+    private static final String NETWORK_FILENAME = "/com/farao_community/farao/cse/network_processing/ucte_pst_change/pst_initially_inside_range.uct";
+    private static final String CRAC_FILENAME = "/com/farao_community/farao/cse/network_processing/ucte_pst_change/pst_with_range.xml";
+    private static final String PST_RANGE_ACTION_ID = "PST_PST_RANGE_BBE2AA1  BBE3AA1  1";
+
+    private Network network;
+    private Crac crac;
+    private PstRangeAction pstRangeAction;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        network = readNetwork();
+        crac = Crac.read("pst_with_range.xml", Objects.requireNonNull(getClass().getResourceAsStream(CRAC_FILENAME)), network);
+        pstRangeAction = crac.getPstRangeAction(PST_RANGE_ACTION_ID);
+    }
+
+    @Test
+    void preventiveRemedialActionsOfRaoResultAreApplied() {
+        State preventiveState = crac.getPreventiveState();
+        RaoResult raoResult = mock(RaoResult.class);
+        when(raoResult.getActivatedNetworkActionsDuringState(preventiveState)).thenReturn(Set.of());
+        when(raoResult.getActivatedRangeActionsDuringState(preventiveState)).thenReturn(Set.<RangeAction<?>>of(pstRangeAction));
+        when(raoResult.getOptimizedSetPointOnState(preventiveState, pstRangeAction)).thenReturn(pstRangeAction.convertTapToAngle(2));
+
+        PraApplier.applyPreventiveRemedialActions(network, crac, raoResult);
+
+        assertEquals(2, network.getTwoWindingsTransformer(pstRangeAction.getNetworkElement().getId()).getPhaseTapChanger().getTapPosition());
+    }
+
+    @Test
+    void noDifferenceIsFoundBetweenIdenticalNetworks() {
+        assertTrue(PraApplier.findDifferences(readNetwork(), network).isEmpty());
+    }
+
+    @Test
+    void differencesAreFoundOnRemedialActionElements() {
+        String pstId = pstRangeAction.getNetworkElement().getId();
+        network.getTwoWindingsTransformer(pstId).getPhaseTapChanger().setTapPosition(2);
+        network.getGeneratorStream().findFirst().orElseThrow().setTargetP(1234.);
+
+        List<String> differences = PraApplier.findDifferences(readNetwork(), network);
+
+        assertEquals(2, differences.size());
+        assertTrue(differences.stream().anyMatch(difference -> difference.startsWith("tap position of " + pstId)));
+    }
+
+    private Network readNetwork() {
+        return Network.read("pst_initially_inside_range.uct", getClass().getResourceAsStream(NETWORK_FILENAME));
+    }
+}